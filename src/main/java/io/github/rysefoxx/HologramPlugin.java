@@ -1,20 +1,60 @@
 package io.github.rysefoxx;
 
 import io.github.rysefoxx.manager.HologramManager;
+import io.github.rysefoxx.manager.HologramSnapshot;
 import lombok.Getter;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * Restores the holograms of the snapshot file on start if the file exists. The file is only written when
+ * {@link #saveSnapshot()} is called, it contains the holograms that have been built with
+ * {@link io.github.rysefoxx.object.Hologram.Builder#persistent()}.
+ */
 @Getter
 public final class HologramPlugin extends JavaPlugin {
 
     private HologramManager hologramManager;
+    private File snapshotFile;
 
     @Override
     public void onEnable() {
+        long start = System.nanoTime();
         hologramManager = new HologramManager(this);
+        snapshotFile = new File(getDataFolder(), "snapshot.dat");
+        if (!snapshotFile.exists()) return;
+
+        HologramSnapshot snapshot = new HologramSnapshot(hologramManager, snapshotFile);
+        try {
+            int loaded = snapshot.load().size();
+            getLogger().info("Loaded " + loaded + " holograms from the snapshot in "
+                    + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms (" + snapshot.report() + ")");
+        } catch (IOException e) {
+            getLogger().log(Level.WARNING, "Could not load the hologram snapshot.", e);
+        }
     }
 
     @Override
     public void onDisable() {
+        if (hologramManager != null) hologramManager.shutdown();
+    }
+
+    /**
+     * Writes the persistent holograms into the snapshot file, so they are restored on the next start.
+     *
+     * @return true if the snapshot has been written.
+     */
+    public boolean saveSnapshot() {
+        try {
+            new HologramSnapshot(hologramManager, snapshotFile).save();
+            return true;
+        } catch (IOException e) {
+            getLogger().log(Level.WARNING, "Could not save the hologram snapshot.", e);
+            return false;
+        }
     }
 }
@@ -0,0 +1,48 @@
+package io.github.rysefoxx.listener;
+
+import com.comphenix.protocol.PacketType;
+import com.comphenix.protocol.events.ListenerPriority;
+import com.comphenix.protocol.events.PacketAdapter;
+import com.comphenix.protocol.events.PacketContainer;
+import com.comphenix.protocol.events.PacketEvent;
+import io.github.rysefoxx.manager.HologramTracker;
+
+/**
+ * Reports every chunk a client receives to the {@link HologramTracker}.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/19/2026
+ */
+public class ChunkStreamListener extends PacketAdapter {
+
+    private final HologramTracker tracker;
+
+    public ChunkStreamListener(HologramTracker tracker) {
+        super(tracker.getManager().getPlugin(), ListenerPriority.MONITOR, chunkPackets());
+        this.tracker = tracker;
+    }
+
+    @Override
+    public void onPacketSending(PacketEvent event) {
+        if (event.isCancelled()) return;
+        PacketContainer packet = event.getPacket();
+
+        if (packet.getType() == PacketType.Play.Server.MAP_CHUNK) {
+            this.tracker.chunkSent(event.getPlayer(), packet.getIntegers().read(0), packet.getIntegers().read(1));
+            return;
+        }
+
+        int[] x = packet.getIntegerArrays().read(0);
+        int[] z = packet.getIntegerArrays().read(1);
+        for (int i = 0; i < x.length; i++) {
+            this.tracker.chunkSent(event.getPlayer(), x[i], z[i]);
+        }
+    }
+
+    private static PacketType[] chunkPackets() {
+        if (PacketType.Play.Server.MAP_CHUNK_BULK.isSupported()) {
+            return new PacketType[]{PacketType.Play.Server.MAP_CHUNK, PacketType.Play.Server.MAP_CHUNK_BULK};
+        }
+        return new PacketType[]{PacketType.Play.Server.MAP_CHUNK};
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.rysefoxx.listener;
+
+import com.comphenix.protocol.PacketType;
+import com.comphenix.protocol.events.ListenerPriority;
+import com.comphenix.protocol.events.PacketAdapter;
+import com.comphenix.protocol.events.PacketContainer;
+import com.comphenix.protocol.events.PacketEvent;
+import io.github.rysefoxx.manager.HologramManager;
+import io.github.rysefoxx.object.Hologram;
+import io.github.rysefoxx.util.ClickAction;
+import lombok.Getter;
+import lombok.Setter;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decodes clicks on hologram entities on the network thread and passes them to the main thread.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/19/2026
+ */
+public class HologramInteractListener extends PacketAdapter {
+
+    private final HologramManager manager;
+    private final Map<UUID, Long> lastClick = new ConcurrentHashMap<>();
+
+    @Getter
+    @Setter
+    private long cooldown = 200;
+
+    public HologramInteractListener(HologramManager manager) {
+        super(manager.getPlugin(), ListenerPriority.NORMAL, PacketType.Play.Client.USE_ENTITY);
+        this.manager = manager;
+    }
+
+    @Override
+    public void onPacketReceiving(PacketEvent event) {
+        PacketContainer packet = event.getPacket();
+        int entityId = packet.getIntegers().read(0);
+
+        Hologram hologram = this.manager.getHologramByEntity(entityId);
+        if (hologram == null || hologram.getClickHandler() == null) return;
+
+        Player player = event.getPlayer();
+        long now = System.nanoTime();
+        Long last = this.lastClick.get(player.getUniqueId());
+        if (last != null && now - last < TimeUnit.MILLISECONDS.toNanos(this.cooldown)) return;
+        this.lastClick.put(player.getUniqueId(), now);
+
+        ClickAction action = this.manager.getEncoder().clickAction(packet);
+
+        Bukkit.getScheduler().runTask(this.plugin, () -> hologram.click(player, entityId, action));
+    }
+
+    /**
+     * Forgets the last click of the player.
+     *
+     * @param player The player.
+     */
+    public void forget(Player player) {
+        this.lastClick.remove(player.getUniqueId());
+    }
+}
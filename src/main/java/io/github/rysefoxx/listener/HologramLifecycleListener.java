@@ -0,0 +1,87 @@
+package io.github.rysefoxx.listener;
+
+import io.github.rysefoxx.manager.HologramManager;
+import io.github.rysefoxx.util.ViewDistance;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+
+import java.util.Objects;
+
+/**
+ * Keeps the holograms of the players up to date when they join, quit, change the world, respawn or teleport
+ * and when chunks are unloaded. Shuts the manager down when its plugin is disabled.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/19/2026
+ */
+public class HologramLifecycleListener implements Listener {
+
+    private final HologramManager manager;
+
+    public HologramLifecycleListener(HologramManager manager) {
+        this.manager = manager;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        this.manager.showVisible(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        this.manager.forget(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldChange(PlayerChangedWorldEvent event) {
+        this.manager.respawn(event.getPlayer());
+    }
+
+    /**
+     * A client only drops the entities of a teleport that leaves its view distance. They are marked as stale and
+     * spawned again one tick later, once the client is at the new position.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onTeleport(PlayerTeleportEvent event) {
+        Location from = event.getFrom();
+        Location to = event.getTo();
+        if (to == null || !Objects.equals(from.getWorld(), to.getWorld())) return;
+
+        Player player = event.getPlayer();
+        int chunks = Math.max(Math.abs((from.getBlockX() >> 4) - (to.getBlockX() >> 4)), Math.abs((from.getBlockZ() >> 4) - (to.getBlockZ() >> 4)));
+        if (chunks <= ViewDistance.of(player)) return;
+
+        this.manager.invalidateClient(player);
+        Bukkit.getScheduler().runTask(this.manager.getPlugin(), () -> {
+            if (player.isOnline()) this.manager.showVisible(player);
+        });
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        this.manager.chunkUnloaded(event.getChunk().getWorld(), event.getChunk().getX(), event.getChunk().getZ());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPluginDisable(PluginDisableEvent event) {
+        if (event.getPlugin() == this.manager.getPlugin()) this.manager.shutdown();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRespawn(PlayerRespawnEvent event) {
+        Bukkit.getScheduler().runTask(this.manager.getPlugin(), () -> {
+            if (event.getPlayer().isOnline()) this.manager.respawn(event.getPlayer());
+        });
+    }
+}
@@ -0,0 +1,157 @@
+package io.github.rysefoxx.manager;
+
+import io.github.rysefoxx.util.IntObjectMap;
+import org.bukkit.entity.Player;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Remembers which hologram entities each client has spawned and which text they show. Packets that would not
+ * change anything on the client are skipped with its help.
+ * <p>
+ * Clients also drop entities on their own, e.g. when a chunk is unloaded or after a long teleport. Such entities
+ * are marked as stale: they are spawned again on the next show instead of being trusted, and they are still
+ * destroyed on hide in case the client has kept them.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/19/2026
+ */
+public class ClientState {
+
+    private final Map<UUID, IntObjectMap<String>> entities = new HashMap<>();
+    private final Map<UUID, IntObjectMap<String>> stale = new HashMap<>();
+
+    /**
+     * @param player The player.
+     * @param id     The entity id.
+     * @return The text the entity shows on the client or null if it is not known to be spawned.
+     */
+    public String getText(Player player, int id) {
+        IntObjectMap<String> entities = this.entities.get(player.getUniqueId());
+        return entities == null ? null : entities.get(id);
+    }
+
+    /**
+     * @param player The player.
+     * @param id     The entity id.
+     * @return true if the entity is known to be spawned on the client.
+     */
+    public boolean isSpawned(Player player, int id) {
+        return getText(player, id) != null;
+    }
+
+    /**
+     * @param player The player.
+     * @param id     The entity id.
+     * @return true if the entity has been spawned, but the client may have dropped it since.
+     */
+    public boolean isStale(Player player, int id) {
+        IntObjectMap<String> stale = this.stale.get(player.getUniqueId());
+        return stale != null && stale.containsKey(id);
+    }
+
+    /**
+     * Records that the entity has been spawned on the client.
+     *
+     * @param player The player.
+     * @param id     The entity id.
+     * @param text   The text the entity shows.
+     */
+    public void spawned(Player player, int id, String text) {
+        remove(this.stale, player, id);
+        this.entities.computeIfAbsent(player.getUniqueId(), uuid -> new IntObjectMap<>()).put(id, text);
+    }
+
+    /**
+     * Records the new text of a spawned entity.
+     *
+     * @param player The player.
+     * @param id     The entity id.
+     * @param text   The new text.
+     * @return true if the entity is spawned and its text has changed, i.e. a packet has to be sent.
+     */
+    public boolean updateText(Player player, int id, String text) {
+        IntObjectMap<String> entities = this.entities.get(player.getUniqueId());
+        if (entities == null) return false;
+
+        String previous = entities.get(id);
+        if (previous == null || previous.equals(text)) return false;
+
+        entities.put(id, text);
+        return true;
+    }
+
+    /**
+     * Records that the entities are destroyed on the client.
+     *
+     * @param player The player.
+     * @param ids    The entity ids.
+     * @return The ids of the entities that were spawned or may still be spawned on the client.
+     */
+    public int[] despawn(Player player, int[] ids) {
+        int[] spawned = new int[ids.length];
+        int count = 0;
+        for (int id : ids) {
+            boolean known = remove(this.entities, player, id);
+            if (remove(this.stale, player, id) || known) spawned[count++] = id;
+        }
+        return count == ids.length ? spawned : Arrays.copyOf(spawned, count);
+    }
+
+    /**
+     * Marks all entities of the client as stale, e.g. after a teleport.
+     *
+     * @param player The player.
+     */
+    public void invalidate(Player player) {
+        IntObjectMap<String> entities = this.entities.remove(player.getUniqueId());
+        if (entities == null) return;
+
+        IntObjectMap<String> stale = this.stale.get(player.getUniqueId());
+        if (stale == null) {
+            this.stale.put(player.getUniqueId(), entities);
+            return;
+        }
+        entities.forEach(stale::put);
+    }
+
+    /**
+     * Marks the entities as stale, e.g. after the chunk they are in has been unloaded.
+     *
+     * @param player The player.
+     * @param ids    The entity ids.
+     */
+    public void invalidate(Player player, int[] ids) {
+        IntObjectMap<String> entities = this.entities.get(player.getUniqueId());
+        if (entities == null) return;
+
+        for (int id : ids) {
+            String text = entities.get(id);
+            if (text == null) continue;
+
+            remove(this.entities, player, id);
+            this.stale.computeIfAbsent(player.getUniqueId(), uuid -> new IntObjectMap<>()).put(id, text);
+        }
+    }
+
+    /**
+     * Forgets all entities of the client, e.g. after it has dropped them on a world change.
+     *
+     * @param player The player.
+     */
+    public void forget(Player player) {
+        this.entities.remove(player.getUniqueId());
+        this.stale.remove(player.getUniqueId());
+    }
+
+    private static boolean remove(Map<UUID, IntObjectMap<String>> map, Player player, int id) {
+        IntObjectMap<String> entities = map.get(player.getUniqueId());
+        if (entities == null || entities.remove(id) == null) return false;
+
+        if (entities.size() == 0) map.remove(player.getUniqueId());
+        return true;
+    }
+}
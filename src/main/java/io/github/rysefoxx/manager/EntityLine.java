@@ -0,0 +1,22 @@
+package io.github.rysefoxx.manager;
+
+import io.github.rysefoxx.object.Hologram;
+import lombok.Getter;
+
+/**
+ * The line of a hologram that an entity id belongs to.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/19/2026
+ */
+@Getter
+public class EntityLine {
+
+    private final Hologram hologram;
+    private final int line;
+
+    EntityLine(Hologram hologram, int line) {
+        this.hologram = hologram;
+        this.line = line;
+    }
+}
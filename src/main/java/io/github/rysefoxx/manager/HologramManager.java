@@ -2,28 +2,213 @@ package io.github.rysefoxx.manager;
 
 import com.comphenix.protocol.ProtocolLibrary;
 import com.comphenix.protocol.ProtocolManager;
+import com.comphenix.protocol.events.PacketContainer;
+import io.github.rysefoxx.listener.HologramInteractListener;
+import io.github.rysefoxx.listener.HologramLifecycleListener;
 import io.github.rysefoxx.object.Hologram;
+import io.github.rysefoxx.object.HologramGroup;
+import io.github.rysefoxx.packet.PacketEncoder;
+import io.github.rysefoxx.packet.PacketEncoders;
+import io.github.rysefoxx.util.IntObjectMap;
+import io.github.rysefoxx.util.Maths;
+import io.github.rysefoxx.util.TickMonitor;
+import io.github.rysefoxx.util.TimingWheel;
+import lombok.AccessLevel;
 import lombok.Getter;
+import org.bukkit.Bukkit;
 import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
 
+import javax.annotation.Nonnegative;
+import java.lang.reflect.InvocationTargetException;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
 /**
+ * Manages the holograms of a plugin. The manager schedules its tasks and registers its listeners for the plugin
+ * that creates it. Call {@link #shutdown()} in the onDisable of that plugin. If it is not called, the manager
+ * shuts itself down when the plugin is disabled, so a reload does not leave threads or listeners behind. The
+ * worker threads are only started when they are first needed.
+ *
  * @author Rysefoxx | Rysefoxx#6772
  * @since 4/29/2022
  */
 @Getter
 public class HologramManager {
 
+    private static final int DETAIL_PERIOD = 10;
+    private static final int PARALLEL_THRESHOLD = 64;
+
     private final JavaPlugin plugin;
 
     private final ProtocolManager protocolManager;
+    private final PacketEncoder encoder;
     private final List<Hologram> holograms = new ArrayList<>();
+    private final List<HologramGroup> groups = new ArrayList<>();
+    private final Map<World, WorldShard> shards = new HashMap<>();
+
+    private final IntObjectMap<EntityLine> entityIndex = new IntObjectMap<>();
+    private final TimingWheel<Hologram> expiryWheel = new TimingWheel<>();
+    private final HologramPool pool = new HologramPool(this, 256);
+    private final HologramTracker tracker = new HologramTracker(this);
+    private final LineTextPool linePool;
+    private final ClientState clientState = new ClientState();
+    private final ProviderExecutor providerExecutor = new ProviderExecutor(2, 256);
+    private final List<Hologram> expired = new ArrayList<>();
+
+    private final TickMonitor tickMonitor;
+    private final BukkitTask detailTask;
+    private final BukkitTask expiryTask;
+    private final HologramInteractListener interactListener;
+    private final HologramLifecycleListener lifecycleListener;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<Object, Hologram> restored = new HashMap<>();
+    @Getter(AccessLevel.NONE)
+    private PacketBatch batch;
+    @Getter(AccessLevel.NONE)
+    private int detailTick = 0;
+    @Getter(AccessLevel.NONE)
+    private ForkJoinPool workers;
+    private boolean shutdown = false;
 
     public HologramManager(JavaPlugin plugin) {
         this.plugin = plugin;
         this.protocolManager = ProtocolLibrary.getProtocolManager();
+        this.encoder = PacketEncoders.select(this.protocolManager);
+        this.linePool = new LineTextPool(this.encoder, 4096);
+        this.tickMonitor = new TickMonitor(plugin);
+        this.detailTask = Bukkit.getScheduler().runTaskTimer(plugin, this::updateDetails, 1, 1);
+        this.expiryTask = Bukkit.getScheduler().runTaskTimer(plugin, this::expireHolograms, 1, 1);
+        this.interactListener = new HologramInteractListener(this);
+        this.protocolManager.addPacketListener(this.interactListener);
+        this.lifecycleListener = new HologramLifecycleListener(this);
+        Bukkit.getPluginManager().registerEvents(this.lifecycleListener, plugin);
+    }
+
+    /**
+     * Stops all tasks, threads and listeners of the manager and its holograms. Holograms that are marked as
+     * temporary or should be removed on disable are destroyed for all players. Further calls do nothing.
+     */
+    public void shutdown() {
+        if (this.shutdown) return;
+        this.shutdown = true;
+
+        this.detailTask.cancel();
+        this.expiryTask.cancel();
+        this.tickMonitor.cancel();
+        this.tracker.disable();
+        this.providerExecutor.shutdown();
+        if (this.workers != null) this.workers.shutdown();
+        this.protocolManager.removePacketListener(this.interactListener);
+        HandlerList.unregisterAll(this.lifecycleListener);
+
+        List<Hologram> removed = this.holograms.stream()
+                .filter(hologram -> hologram.isRemoveOnDisable() || hologram.isTemporary())
+                .collect(Collectors.toList());
+        removeAll(removed);
+
+        for (Hologram hologram : this.holograms) {
+            hologram.stopPageRotation();
+            hologram.stopAsyncUpdates();
+            hologram.cancelUpdaters();
+        }
+    }
+
+    /**
+     * Shows the player all enabled holograms of their world.
+     *
+     * @param player The player who should see the holograms.
+     */
+    public void showVisible(Player player) {
+        if (this.tracker.isEnabled()) return;
+
+        WorldShard shard = this.shards.get(player.getWorld());
+        if (shard == null) return;
+
+        for (Hologram hologram : shard.getHolograms()) {
+            if (!hologram.isToggled() || !hologram.canSee(player)) continue;
+
+            hologram.show(player);
+        }
+    }
+
+    /**
+     * Spawns the holograms again after the client has dropped all entities, e.g. after a world change or a respawn.
+     *
+     * @param player The player whose holograms are spawned again.
+     */
+    public void respawn(Player player) {
+        for (Hologram hologram : this.holograms) {
+            hologram.releaseViewer(player);
+            hologram.invalidateVisibility(player);
+        }
+        this.clientState.forget(player);
+        this.tracker.forget(player);
+        showVisible(player);
+    }
+
+    /**
+     * Marks the entities of the client as stale after it may have dropped them, e.g. after a teleport into
+     * another chunk. They are spawned again the next time they are shown.
+     *
+     * @param player The player whose client may have dropped entities.
+     */
+    public void invalidateClient(Player player) {
+        this.clientState.invalidate(player);
+    }
+
+    /**
+     * Marks the entities of all holograms in the chunk as stale for the players of the world. No player is near
+     * an unloaded chunk, so their clients have dropped these entities.
+     *
+     * @param world The world of the chunk.
+     * @param x     The x coordinate of the chunk.
+     * @param z     The z coordinate of the chunk.
+     */
+    public void chunkUnloaded(World world, int x, int z) {
+        WorldShard shard = this.shards.get(world);
+        if (shard == null) return;
+
+        List<int[]> parts = new ArrayList<>();
+        for (Hologram hologram : shard.getChunk(x, z)) {
+            parts.add(hologram.getLineId().values().stream().mapToInt(Integer::intValue).toArray());
+        }
+        if (parts.isEmpty()) return;
+
+        for (Player player : world.getPlayers()) {
+            parts.forEach(ids -> this.clientState.invalidate(player, ids));
+        }
+    }
+
+    /**
+     * Evaluates the visibility of all holograms for the player again, e.g. after the permissions of the player have changed.
+     *
+     * @param player The player whose visibility is evaluated again.
+     */
+    public void refreshVisibility(Player player) {
+        for (Hologram hologram : this.holograms) {
+            hologram.refreshVisibility(player);
+        }
+    }
+
+    /**
+     * Removes everything the manager and its holograms know about the player.
+     *
+     * @param player The player who left the server.
+     */
+    public void forget(Player player) {
+        for (Hologram hologram : this.holograms) {
+            hologram.forget(player);
+        }
+        this.clientState.forget(player);
+        this.tracker.forget(player);
+        this.interactListener.forget(player);
     }
 
     /**
@@ -32,8 +217,14 @@ public class HologramManager {
      * @param hologram The hologram to be created.
      */
     public void create(Hologram hologram) {
+        replaceRestored(hologram);
         this.holograms.add(hologram);
-        if (hologram.isToggled()) hologram.showAll();
+        shardOf(hologram.getSpawnLocation().getWorld()).add(hologram);
+        this.tracker.add(hologram);
+        if (hologram.isToggled() && !this.tracker.isEnabled()) hologram.showAll();
+        hologram.startPageRotation();
+        hologram.startAsyncUpdates();
+        scheduleExpiry(hologram);
     }
 
     /**
@@ -42,9 +233,254 @@ public class HologramManager {
      * @param hologram The hologram that is to be removed.
      */
     public void remove(Hologram hologram) {
-        this.holograms.remove(hologram);
+        if (!this.holograms.remove(hologram)) return;
 
         hologram.hideAll();
+        disposeFunctionality(hologram);
+    }
+
+    /**
+     * Creates a hologram taken from the pool. Pooled holograms have no pages, providers or restored counterpart,
+     * so only the indexes are updated and the hologram is shown. Its entity ids and the cached payloads of its
+     * lines are reused.
+     *
+     * @param hologram The recycled hologram.
+     */
+    void createPooled(Hologram hologram) {
+        this.holograms.add(hologram);
+        shardOf(hologram.getSpawnLocation().getWorld()).add(hologram);
+        this.tracker.add(hologram);
+        if (!this.tracker.isEnabled()) hologram.showAll();
+        scheduleExpiry(hologram);
+    }
+
+    /**
+     * Creates several holograms at once. All holograms are registered first and their lines are encoded in
+     * parallel, then every player receives the holograms of their world in a single pass.
+     *
+     * @param holograms The holograms to be created.
+     */
+    public void createAll(Collection<Hologram> holograms) {
+        createFunctionality(holograms, true);
+    }
+
+    /**
+     * Creates holograms that have been restored from a snapshot. Their lines are not encoded again, encode them
+     * beforehand with {@link #encodeLines(Collection)}. A hologram that is created later with the same identifier replaces the
+     * restored one, so plugins can create their holograms again after a restart.
+     *
+     * @param holograms The restored holograms.
+     */
+    public void restore(Collection<Hologram> holograms) {
+        createFunctionality(holograms, false);
+        holograms.forEach(hologram -> this.restored.put(hologram.getIdentifier(), hologram));
+    }
+
+    /**
+     * Removes several holograms at once. Every player receives a single destroy packet for all holograms.
+     * Holograms that are not registered are ignored.
+     *
+     * @param holograms The holograms that are to be removed.
+     */
+    public void removeAll(Collection<Hologram> holograms) {
+        Set<Hologram> requested = new HashSet<>(holograms);
+        Set<Hologram> removed = new HashSet<>();
+        this.holograms.removeIf(hologram -> requested.contains(hologram) && removed.add(hologram));
+        if (removed.isEmpty()) return;
+
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            List<int[]> parts = new ArrayList<>(removed.size());
+            int size = 0;
+            for (Hologram hologram : removed) {
+                int[] part = hologram.releaseViewer(player);
+                parts.add(part);
+                size += part.length;
+            }
+
+            int[] ids = new int[size];
+            int offset = 0;
+            for (int[] part : parts) {
+                System.arraycopy(part, 0, ids, offset, part.length);
+                offset += part.length;
+            }
+            destroyEntities(player, ids);
+        }
+        removed.forEach(this::disposeFunctionality);
+    }
+
+    /**
+     * Creates a new group and shows its holograms with one packet batch per player.
+     *
+     * @param group The group to be created.
+     */
+    public void create(HologramGroup group) {
+        this.groups.add(group);
+        batch(() -> createAll(group.getMembers()));
+    }
+
+    /**
+     * Removes a group together with all of its holograms.
+     *
+     * @param group The group that is to be removed.
+     */
+    public void remove(HologramGroup group) {
+        this.groups.remove(group);
+        removeAll(new ArrayList<>(group.getMembers()));
+    }
+
+    /**
+     * Moves the hologram to the shard and chunk of its new spawn point.
+     *
+     * @param hologram The hologram that has been moved.
+     * @param previous The spawn point before the hologram was moved.
+     */
+    public void relocate(Hologram hologram, Location previous) {
+        if (removeFromShard(hologram, previous)) shardOf(hologram.getSpawnLocation().getWorld()).add(hologram);
+        this.tracker.relocate(hologram, previous);
+    }
+
+    /**
+     * Runs the action and collects all packets it sends. The packets are then sent per player in one pass and
+     * consecutive destroys are merged into a single packet. Nested calls join the outer batch.
+     *
+     * @param action The action whose packets are collected.
+     */
+    public void batch(Runnable action) {
+        if (this.batch != null) {
+            action.run();
+            return;
+        }
+
+        PacketBatch batch = new PacketBatch(this.encoder);
+        this.batch = batch;
+        try {
+            action.run();
+        } finally {
+            this.batch = null;
+            batch.drain().forEach((player, packets) -> {
+                if (!player.isOnline()) return;
+
+                packets.forEach(packet -> sendPacket(player, packet));
+            });
+        }
+    }
+
+    /**
+     * Sends a packet to the player. Within {@link #batch(Runnable)} the packet is collected instead.
+     *
+     * @param player The player who receives the packet.
+     * @param packet The packet.
+     */
+    public void sendPacket(Player player, PacketContainer packet) {
+        if (this.batch != null) {
+            this.batch.add(player, packet);
+            return;
+        }
+
+        try {
+            this.protocolManager.sendServerPacket(player, packet);
+        } catch (InvocationTargetException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Encodes the lines of the holograms in advance, e.g. before players join. Large amounts are encoded in
+     * parallel on the worker pool, the packets are dispatched afterwards on the main thread.
+     *
+     * @param holograms The holograms whose lines are encoded.
+     */
+    public void encodeLines(Collection<Hologram> holograms) {
+        if (holograms.size() < PARALLEL_THRESHOLD) {
+            holograms.forEach(this::encodeLines);
+            return;
+        }
+
+        List<Hologram> list = new ArrayList<>(holograms);
+        workers().submit(() -> list.parallelStream().forEach(this::encodeLines)).join();
+    }
+
+    /**
+     * Reserves a new entity id for a line of the hologram.
+     *
+     * @param hologram The hologram the entity belongs to.
+     * @param line     The line the entity shows.
+     * @return An entity id that is not used by any other hologram.
+     */
+    public int allocateEntityId(Hologram hologram, @Nonnegative int line) {
+        synchronized (this.entityIndex) {
+            int id;
+            do {
+                id = Maths.randomInteger(1, Integer.MAX_VALUE);
+            } while (this.entityIndex.containsKey(id));
+
+            this.entityIndex.put(id, new EntityLine(hologram, line));
+            return id;
+        }
+    }
+
+    /**
+     * Records that an entity id of the hologram now shows another line, e.g. after lines have been inserted.
+     *
+     * @param id       The entity id.
+     * @param hologram The hologram the entity belongs to.
+     * @param line     The line the entity now shows.
+     */
+    public void reindexEntityId(int id, Hologram hologram, @Nonnegative int line) {
+        synchronized (this.entityIndex) {
+            this.entityIndex.put(id, new EntityLine(hologram, line));
+        }
+    }
+
+    /**
+     * Releases an entity id that is no longer used by a hologram.
+     *
+     * @param id The entity id.
+     */
+    public void releaseEntityId(int id) {
+        synchronized (this.entityIndex) {
+            this.entityIndex.remove(id);
+        }
+    }
+
+    /**
+     * Searches the hologram to which the entity belongs. Can be called from any thread.
+     *
+     * @param id The entity id.
+     * @return null if the entity does not belong to a hologram.
+     */
+    public Hologram getHologramByEntity(int id) {
+        EntityLine entity = getLineByEntity(id);
+        return entity == null ? null : entity.getHologram();
+    }
+
+    /**
+     * Searches the hologram and the line to which the entity belongs. Can be called from any thread.
+     *
+     * @param id The entity id.
+     * @return null if the entity does not belong to a hologram.
+     */
+    public EntityLine getLineByEntity(int id) {
+        synchronized (this.entityIndex) {
+            return this.entityIndex.get(id);
+        }
+    }
+
+    /**
+     * Destroys several entities for a player with a single packet where the protocol allows it. Entities the client has not spawned are skipped.
+     *
+     * @param player The player for whom the entities are destroyed.
+     * @param ids    The ids of the entities.
+     */
+    public void destroyEntities(Player player, int[] ids) {
+        ids = this.clientState.despawn(player, ids);
+        if (ids.length == 0) return;
+        if (this.batch != null) {
+            this.batch.destroy(player, ids);
+            return;
+        }
+
+        this.encoder.destroy(ids).forEach(packet -> sendPacket(player, packet));
     }
 
     /**
@@ -60,6 +496,16 @@ public class HologramManager {
     }
 
 
+    /**
+     * Searches and returns the group based on the identifier.
+     *
+     * @param identifier Filtering is performed according to this criterion.
+     * @return An empty optional if no group could be found.
+     */
+    public Optional<HologramGroup> fetchGroupFromIdentifier(Object identifier) {
+        return this.groups.stream().filter(group -> group.getIdentifier().equals(identifier)).findAny();
+    }
+
     /**
      * A HashMap with all holograms in the given radius.
      *
@@ -70,15 +516,10 @@ public class HologramManager {
     public HashMap<Hologram, Double> locateNearestAsMap(Location location, double radius) {
         HashMap<Hologram, Double> hologramInRange = new HashMap<>();
 
-        this.holograms.forEach(hologram -> {
-            if (!Objects.equals(hologram.getSpawnLocation().getWorld(), location.getWorld())) return;
-            double distance = hologram.getSpawnLocation().distance(location);
-
-            if (distance > radius) return;
-
-            hologramInRange.put(hologram, radius);
-        });
+        WorldShard shard = this.shards.get(location.getWorld());
+        if (shard == null) return hologramInRange;
 
+        shard.locate(location, radius).forEach(hologram -> hologramInRange.put(hologram, radius));
         return hologramInRange;
     }
 
@@ -87,18 +528,121 @@ public class HologramManager {
      *
      * @param location The starting point.
      * @param radius   The radius to be checked.
-     * @return null if no hologram could be found.
+     * @return An empty optional if no hologram could be found.
      */
     public Optional<Hologram> locateNearest(Location location, double radius) {
+        WorldShard shard = this.shards.get(location.getWorld());
+        if (shard == null) return Optional.empty();
 
-        for (Hologram hologram : this.holograms) {
-            if (!Objects.equals(hologram.getSpawnLocation().getWorld(), location.getWorld())) continue;
-            double distance = hologram.getSpawnLocation().distance(location);
+        return shard.locate(location, radius).stream()
+                .min(Comparator.comparingDouble(hologram -> hologram.getSpawnLocation().distanceSquared(location)));
+    }
+
+    /**
+     * Removes all holograms whose time to live has expired with one destroy packet per player.
+     */
+    private void expireHolograms() {
+        this.expiryWheel.advance(this.expired::add);
+        if (this.expired.isEmpty()) return;
+
+        removeAll(this.expired);
+        this.expired.clear();
+    }
+
+    private void scheduleExpiry(Hologram hologram) {
+        if (hologram.getTtl() <= 0) return;
+
+        this.expiryWheel.schedule(hologram.getExpiry(), hologram.getTtl());
+    }
+
+    private void createFunctionality(Collection<Hologram> holograms, boolean encode) {
+        holograms.forEach(this::replaceRestored);
+        this.holograms.addAll(holograms);
+
+        Map<WorldShard, List<Hologram>> added = new HashMap<>();
+        for (Hologram hologram : holograms) {
+            WorldShard shard = shardOf(hologram.getSpawnLocation().getWorld());
+            shard.add(hologram);
+            added.computeIfAbsent(shard, key -> new ArrayList<>()).add(hologram);
+            this.tracker.add(hologram);
+        }
+        if (encode) encodeLines(holograms);
 
-            if (distance > radius) continue;
+        if (!this.tracker.isEnabled()) {
+            for (Player player : Bukkit.getOnlinePlayers()) {
+                List<Hologram> candidates = added.get(this.shards.get(player.getWorld()));
+                if (candidates == null) continue;
 
-            return Optional.of(hologram);
+                for (Hologram hologram : candidates) {
+                    if (!hologram.isToggled() || !hologram.canSee(player)) continue;
+                    hologram.show(player);
+                }
+            }
+        }
+        for (Hologram hologram : holograms) {
+            hologram.startPageRotation();
+            hologram.startAsyncUpdates();
+            scheduleExpiry(hologram);
         }
-        return Optional.empty();
+    }
+
+    private void replaceRestored(Hologram hologram) {
+        Hologram previous = this.restored.remove(hologram.getIdentifier());
+        if (previous != null && previous != hologram) remove(previous);
+    }
+
+    private void disposeFunctionality(Hologram hologram) {
+        this.restored.remove(hologram.getIdentifier(), hologram);
+        this.tracker.remove(hologram);
+        removeFromShard(hologram, hologram.getSpawnLocation());
+        if (hologram.getGroup() != null) hologram.getGroup().remove(hologram);
+        hologram.stopPageRotation();
+        hologram.stopAsyncUpdates();
+        this.expiryWheel.cancel(hologram.getExpiry());
+
+        if (hologram.isPooled()) {
+            this.pool.release(hologram);
+            return;
+        }
+        hologram.getLineId().values().forEach(this::releaseEntityId);
+    }
+
+    /**
+     * Checks the detail levels of the shards whose slot is due in this tick. Each shard is checked every
+     * {@value #DETAIL_PERIOD} ticks, the shards are spread over the period.
+     */
+    private void updateDetails() {
+        int slot = this.detailTick;
+        this.detailTick = (this.detailTick + 1) % DETAIL_PERIOD;
+
+        for (WorldShard shard : this.shards.values()) {
+            if (shard.getSlot() != slot) continue;
+            shard.updateDetails();
+        }
+    }
+
+    private void encodeLines(Hologram hologram) {
+        if (!hologram.getPages().isEmpty()) return;
+
+        hologram.getLines().forEach(line -> this.linePool.payload(line, hologram.isTranslateColors()));
+    }
+
+    private ForkJoinPool workers() {
+        if (this.workers == null) {
+            this.workers = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+        }
+        return this.workers;
+    }
+
+    private WorldShard shardOf(World world) {
+        return this.shards.computeIfAbsent(world, key -> new WorldShard(key, this.shards.size() % DETAIL_PERIOD));
+    }
+
+    private boolean removeFromShard(Hologram hologram, Location location) {
+        WorldShard shard = this.shards.get(location.getWorld());
+        if (shard == null || !shard.remove(hologram, location)) return false;
+
+        if (shard.getHolograms().isEmpty()) this.shards.remove(location.getWorld());
+        return true;
     }
 }
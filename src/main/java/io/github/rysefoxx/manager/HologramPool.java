@@ -0,0 +1,72 @@
+package io.github.rysefoxx.manager;
+
+import io.github.rysefoxx.object.Hologram;
+import lombok.Getter;
+import org.bukkit.Location;
+
+import javax.annotation.Nonnegative;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Recycles short-lived holograms such as damage indicators. A pooled hologram keeps its collections,
+ * its expiry handle and the entity ids of its lines, so creating it again allocates almost nothing.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/19/2026
+ */
+@Getter
+public class HologramPool {
+
+    private final HologramManager manager;
+    private final ArrayDeque<Hologram> free = new ArrayDeque<>();
+    private final Set<Hologram> released = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final int capacity;
+
+    private int created = 0;
+
+    public HologramPool(HologramManager manager, @Nonnegative int capacity) {
+        this.manager = manager;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Takes a hologram from the pool and spawns it for all players of its world.
+     *
+     * @param location The spawn point of the hologram.
+     * @param ttl      The number of ticks until the hologram is removed again.
+     * @param lines    The lines of the hologram.
+     * @return The spawned hologram.
+     */
+    public Hologram acquire(Location location, @Nonnegative int ttl, String... lines) {
+        Hologram hologram = this.free.poll();
+        if (hologram == null) {
+            hologram = Hologram.pooled(this.manager, "pooled-" + this.created++);
+        } else {
+            this.released.remove(hologram);
+        }
+
+        hologram.recycle(location, ttl, lines);
+        this.manager.createPooled(hologram);
+        return hologram;
+    }
+
+    /**
+     * Puts a removed hologram back into the pool. Holograms above the capacity give back their entity ids.
+     * A hologram that is already in the pool is not added a second time.
+     *
+     * @param hologram The hologram that has been removed.
+     */
+    void release(Hologram hologram) {
+        if (this.released.contains(hologram)) return;
+        if (this.free.size() >= this.capacity) {
+            hologram.getLineId().values().forEach(this.manager::releaseEntityId);
+            hologram.getLineId().clear();
+            return;
+        }
+        this.released.add(hologram);
+        this.free.push(hologram);
+    }
+}
@@ -0,0 +1,222 @@
+package io.github.rysefoxx.manager;
+
+import io.github.rysefoxx.object.Hologram;
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Stores the definitions of persistent static holograms in a file and creates them again on the next start. Loading is split
+ * into phases whose durations are recorded: reading the file, building the holograms, encoding their lines in
+ * parallel and registering them. Providers, click handlers and other callbacks are not part of the snapshot.
+ * <p>
+ * Identifiers keep their type. Only holograms whose identifier is a {@link String}, {@link Integer}, {@link Long}
+ * or {@link UUID} are stored.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/19/2026
+ */
+@Getter
+public class HologramSnapshot {
+
+    private static final int MAGIC = 0x52484753;
+    private static final int VERSION = 3;
+
+    private static final byte TYPE_STRING = 0;
+    private static final byte TYPE_INTEGER = 1;
+    private static final byte TYPE_LONG = 2;
+    private static final byte TYPE_UUID = 3;
+
+    private final HologramManager manager;
+    private final File file;
+    private final Map<String, Long> timings = new LinkedHashMap<>();
+
+    public HologramSnapshot(HologramManager manager, File file) {
+        this.manager = manager;
+        this.file = file;
+    }
+
+    /**
+     * Writes the holograms of the manager that have been built with {@link Hologram.Builder#persistent()} into the
+     * file. Holograms that are removed on disable, have pages or providers, or whose identifier has another type
+     * than the supported ones are skipped.
+     *
+     * @throws IOException If the file cannot be written.
+     */
+    public void save() throws IOException {
+        List<Hologram> holograms = new ArrayList<>();
+        for (Hologram hologram : this.manager.getHolograms()) {
+            if (isPersisted(hologram)) holograms.add(hologram);
+        }
+
+        File parent = this.file.getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("Could not create " + parent);
+        }
+
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(this.file)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeInt(holograms.size());
+            for (Hologram hologram : holograms) {
+                Location location = hologram.getSpawnLocation();
+                writeIdentifier(output, hologram.getIdentifier());
+                output.writeUTF(location.getWorld().getName());
+                output.writeDouble(location.getX());
+                output.writeDouble(location.getY());
+                output.writeDouble(location.getZ());
+                output.writeDouble(hologram.getDistance());
+                output.writeBoolean(hologram.isToggled());
+                output.writeBoolean(hologram.isTranslateColors());
+                output.writeInt(hologram.getLines().size());
+                for (String line : hologram.getLines()) {
+                    output.writeUTF(line);
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates the holograms stored in the file. Holograms of worlds that are not loaded and identifiers that are
+     * already registered are skipped. A hologram created later with the same identifier replaces the restored one,
+     * see {@link HologramManager#restore(Collection)}.
+     *
+     * @return The created holograms.
+     * @throws IOException If the file cannot be read or is not a snapshot.
+     */
+    public List<Hologram> load() throws IOException {
+        this.timings.clear();
+
+        List<Hologram.Builder> builders = phase("read", this::readFunctionality);
+        List<Hologram> holograms = phase("build", () -> {
+            List<Hologram> prepared = new ArrayList<>(builders.size());
+            builders.forEach(builder -> prepared.add(builder.prepare()));
+            return prepared;
+        });
+        phase("encode", () -> {
+            this.manager.encodeLines(holograms);
+            return null;
+        });
+        phase("create", () -> {
+            this.manager.restore(holograms);
+            return null;
+        });
+        return holograms;
+    }
+
+    /**
+     * @return The durations of the phases of the last load, e.g. "read 3ms, build 1ms, encode 12ms, create 0ms".
+     */
+    public String report() {
+        StringJoiner joiner = new StringJoiner(", ");
+        this.timings.forEach((phase, nanos) -> joiner.add(phase + " " + TimeUnit.NANOSECONDS.toMillis(nanos) + "ms"));
+        return joiner.toString();
+    }
+
+    private List<Hologram.Builder> readFunctionality() {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(this.file)))) {
+            if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+                throw new IOException(this.file + " is not a hologram snapshot.");
+            }
+
+            int count = input.readInt();
+            List<Hologram.Builder> builders = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Object identifier = readIdentifier(input);
+                World world = Bukkit.getWorld(input.readUTF());
+                Location location = new Location(world, input.readDouble(), input.readDouble(), input.readDouble());
+                double distance = input.readDouble();
+                boolean toggled = input.readBoolean();
+                boolean translateColors = input.readBoolean();
+                List<String> lines = new ArrayList<>();
+                for (int line = input.readInt(); line > 0; line--) {
+                    lines.add(input.readUTF());
+                }
+                if (world == null || lines.isEmpty() || this.manager.fetchFromIdentifier(identifier).isPresent()) continue;
+
+                Hologram.Builder builder = Hologram.builder(this.manager.getPlugin())
+                        .identifier(identifier)
+                        .manager(this.manager)
+                        .spawnLocation(location)
+                        .distance(distance)
+                        .lines(lines);
+                if (!toggled) builder.disable();
+                if (translateColors) builder.translateColors();
+                builder.persistent();
+                builders.add(builder);
+            }
+            return builders;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean isPersisted(Hologram hologram) {
+        if (!hologram.isPersistent() || hologram.isRemoveOnDisable() || hologram.isTemporary() || hologram.isPooled()) return false;
+        if (!hologram.getPages().isEmpty() || hologram.getProvider() != null || hologram.getAsyncProvider() != null) return false;
+
+        return typeOf(hologram.getIdentifier()) >= 0;
+    }
+
+    private static byte typeOf(Object identifier) {
+        if (identifier instanceof String) return TYPE_STRING;
+        if (identifier instanceof Integer) return TYPE_INTEGER;
+        if (identifier instanceof Long) return TYPE_LONG;
+        if (identifier instanceof UUID) return TYPE_UUID;
+        return -1;
+    }
+
+    private static void writeIdentifier(DataOutputStream output, Object identifier) throws IOException {
+        byte type = typeOf(identifier);
+        output.writeByte(type);
+        switch (type) {
+            case TYPE_STRING:
+                output.writeUTF((String) identifier);
+                break;
+            case TYPE_INTEGER:
+                output.writeInt((Integer) identifier);
+                break;
+            case TYPE_LONG:
+                output.writeLong((Long) identifier);
+                break;
+            default:
+                UUID uuid = (UUID) identifier;
+                output.writeLong(uuid.getMostSignificantBits());
+                output.writeLong(uuid.getLeastSignificantBits());
+                break;
+        }
+    }
+
+    private static Object readIdentifier(DataInputStream input) throws IOException {
+        byte type = input.readByte();
+        switch (type) {
+            case TYPE_STRING:
+                return input.readUTF();
+            case TYPE_INTEGER:
+                return input.readInt();
+            case TYPE_LONG:
+                return input.readLong();
+            case TYPE_UUID:
+                return new UUID(input.readLong(), input.readLong());
+            default:
+                throw new IOException("Unknown identifier type " + type + ".");
+        }
+    }
+
+    private <T> T phase(String name, Supplier<T> action) throws IOException {
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            this.timings.put(name, System.nanoTime() - start);
+        }
+    }
+}
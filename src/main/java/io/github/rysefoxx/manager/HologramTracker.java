@@ -0,0 +1,255 @@
+package io.github.rysefoxx.manager;
+
+import io.github.rysefoxx.listener.ChunkStreamListener;
+import io.github.rysefoxx.object.Hologram;
+import io.github.rysefoxx.util.ViewDistance;
+import lombok.Getter;
+import lombok.Setter;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Streams holograms to players chunk by chunk, like the entity tracker of the server.
+ * Holograms are indexed by the chunk they stand in. A player receives the holograms of a chunk once the client
+ * has been sent that chunk, and loses them when the chunk leaves the view distance. Large backlogs, e.g. after
+ * a join or a teleport, are spread over several ticks with a packet budget per player.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/19/2026
+ */
+@Getter
+public class HologramTracker {
+
+    private final HologramManager manager;
+    private final Map<World, Map<Long, List<Hologram>>> sections = new HashMap<>();
+    private final Map<UUID, Viewer> viewers = new HashMap<>();
+    private final Queue<ChunkLoad> loads = new ConcurrentLinkedQueue<>();
+
+    @Setter
+    private int packetBudget = 64;
+    private boolean enabled = false;
+
+    private ChunkStreamListener listener;
+    private BukkitTask task;
+
+    public HologramTracker(HologramManager manager) {
+        this.manager = manager;
+    }
+
+    /**
+     * From now on, holograms are only sent for chunks the client has received.
+     */
+    public void enable() {
+        if (this.enabled) return;
+
+        this.enabled = true;
+        this.listener = new ChunkStreamListener(this);
+        this.manager.getProtocolManager().addPacketListener(this.listener);
+        this.task = Bukkit.getScheduler().runTaskTimer(this.manager.getPlugin(), this::tick, 1, 1);
+    }
+
+    /**
+     * Stops streaming. Holograms that have already been sent stay visible.
+     */
+    public void disable() {
+        if (!this.enabled) return;
+
+        this.enabled = false;
+        this.manager.getProtocolManager().removePacketListener(this.listener);
+        this.task.cancel();
+        this.loads.clear();
+        this.viewers.clear();
+    }
+
+    /**
+     * Adds the hologram to the chunk index and queues it for all players who already have its chunk.
+     *
+     * @param hologram The hologram to be added.
+     */
+    public void add(Hologram hologram) {
+        long key = chunkKey(hologram.getSpawnLocation());
+        this.sections.computeIfAbsent(hologram.getSpawnLocation().getWorld(), world -> new HashMap<>())
+                .computeIfAbsent(key, chunk -> new ArrayList<>())
+                .add(hologram);
+
+        if (!this.enabled || !hologram.isToggled()) return;
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            Viewer viewer = this.viewers.get(player.getUniqueId());
+            if (viewer == null || !viewer.chunks.contains(key)) continue;
+            if (!hologram.canSee(player)) continue;
+
+            viewer.pending.add(hologram);
+        }
+    }
+
+    /**
+     * Removes the hologram from the chunk index.
+     *
+     * @param hologram The hologram to be removed.
+     */
+    public void remove(Hologram hologram) {
+        remove(hologram, hologram.getSpawnLocation());
+    }
+
+    /**
+     * Moves the hologram to the chunk of its new spawn point.
+     *
+     * @param hologram The hologram that has been moved.
+     * @param previous The spawn point before the hologram was moved.
+     */
+    public void relocate(Hologram hologram, Location previous) {
+        if (!remove(hologram, previous)) return;
+
+        add(hologram);
+    }
+
+    /**
+     * Is called from the network thread whenever a chunk is sent to a client.
+     *
+     * @param player The player who receives the chunk.
+     * @param x      The x coordinate of the chunk.
+     * @param z      The z coordinate of the chunk.
+     */
+    public void chunkSent(Player player, int x, int z) {
+        this.loads.add(new ChunkLoad(player.getUniqueId(), chunkKey(x, z)));
+    }
+
+    /**
+     * Forgets everything the tracker knows about the player, e.g. after a world change the client has no chunks.
+     *
+     * @param player The player.
+     */
+    public void forget(Player player) {
+        this.viewers.remove(player.getUniqueId());
+    }
+
+    private boolean remove(Hologram hologram, Location location) {
+        Map<Long, List<Hologram>> chunks = this.sections.get(location.getWorld());
+        if (chunks == null) return false;
+
+        long key = chunkKey(location);
+        List<Hologram> holograms = chunks.get(key);
+        if (holograms == null || !holograms.remove(hologram)) return false;
+
+        if (holograms.isEmpty()) chunks.remove(key);
+        if (chunks.isEmpty()) this.sections.remove(location.getWorld());
+        for (Viewer viewer : this.viewers.values()) {
+            viewer.pending.remove(hologram);
+        }
+        return true;
+    }
+
+    private void tick() {
+        ChunkLoad load;
+        while ((load = this.loads.poll()) != null) {
+            Player player = Bukkit.getPlayer(load.player);
+            if (player == null || !player.isOnline()) continue;
+
+            Viewer viewer = this.viewers.computeIfAbsent(load.player, uuid -> new Viewer());
+            if (!isInView(chunkKey(player.getLocation()), load.chunk, ViewDistance.of(player))) continue;
+            if (!viewer.chunks.add(load.chunk)) continue;
+
+            Map<Long, List<Hologram>> chunks = this.sections.get(player.getWorld());
+            List<Hologram> holograms = chunks == null ? null : chunks.get(load.chunk);
+            if (holograms == null) continue;
+
+            for (Hologram hologram : holograms) {
+                if (!hologram.isToggled() || hologram.isViewer(player) || !hologram.canSee(player)) continue;
+                viewer.pending.add(hologram);
+            }
+        }
+
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            Viewer viewer = this.viewers.get(player.getUniqueId());
+            if (viewer == null) continue;
+
+            long center = chunkKey(player.getLocation());
+            if (center != viewer.center) {
+                viewer.center = center;
+                releaseChunks(player, viewer, ViewDistance.of(player));
+            }
+            streamPending(player, viewer);
+        }
+    }
+
+    private void releaseChunks(Player player, Viewer viewer, int viewDistance) {
+        Map<Long, List<Hologram>> chunks = this.sections.get(player.getWorld());
+        List<Hologram> released = new ArrayList<>();
+
+        Iterator<Long> iterator = viewer.chunks.iterator();
+        while (iterator.hasNext()) {
+            long chunk = iterator.next();
+            if (isInView(viewer.center, chunk, viewDistance)) continue;
+            iterator.remove();
+
+            List<Hologram> holograms = chunks == null ? null : chunks.get(chunk);
+            if (holograms != null) released.addAll(holograms);
+        }
+        if (released.isEmpty()) return;
+
+        int size = 0;
+        List<int[]> parts = new ArrayList<>(released.size());
+        for (Hologram hologram : released) {
+            viewer.pending.remove(hologram);
+            if (!hologram.isViewer(player)) continue;
+
+            int[] part = hologram.releaseViewer(player);
+            parts.add(part);
+            size += part.length;
+        }
+
+        int[] ids = new int[size];
+        int offset = 0;
+        for (int[] part : parts) {
+            System.arraycopy(part, 0, ids, offset, part.length);
+            offset += part.length;
+        }
+        this.manager.destroyEntities(player, ids);
+    }
+
+    private void streamPending(Player player, Viewer viewer) {
+        int budget = this.packetBudget;
+        while (budget > 0 && !viewer.pending.isEmpty()) {
+            Hologram hologram = viewer.pending.poll();
+            if (hologram.isViewer(player)) continue;
+
+            hologram.show(player);
+            budget -= Math.max(hologram.frameSize(player), 1) * 2;
+        }
+    }
+
+    private static boolean isInView(long center, long chunk, int viewDistance) {
+        return Math.abs((int) (center >> 32) - (int) (chunk >> 32)) <= viewDistance
+                && Math.abs((int) center - (int) chunk) <= viewDistance;
+    }
+
+    private static long chunkKey(Location location) {
+        return chunkKey(location.getBlockX() >> 4, location.getBlockZ() >> 4);
+    }
+
+    private static long chunkKey(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+
+    private static class Viewer {
+        private final Set<Long> chunks = new HashSet<>();
+        private final ArrayDeque<Hologram> pending = new ArrayDeque<>();
+        private long center = Long.MIN_VALUE;
+    }
+
+    private static class ChunkLoad {
+        private final UUID player;
+        private final long chunk;
+
+        private ChunkLoad(UUID player, long chunk) {
+            this.player = player;
+            this.chunk = chunk;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.rysefoxx.manager;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import io.github.rysefoxx.packet.PacketEncoder;
+import lombok.Getter;
+import lombok.Setter;
+import org.bukkit.ChatColor;
+
+import javax.annotation.Nonnegative;
+
+/**
+ * Shares the text of hologram lines between all holograms. Identical lines are stored once and their metadata is
+ * encoded once. Color codes are only translated for holograms that opt in, the lines of other holograms are sent
+ * as they are.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/19/2026
+ */
+@Getter
+public class LineTextPool {
+
+    private final PacketEncoder encoder;
+    private final Interner<String> interner = Interners.newWeakInterner();
+    private final LoadingCache<String, Object> payloads;
+    private final LoadingCache<String, Object> translatedPayloads;
+
+    @Setter
+    private char colorChar = '&';
+
+    public LineTextPool(PacketEncoder encoder, @Nonnegative int maximumSize) {
+        this.encoder = encoder;
+        this.payloads = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .build(new CacheLoader<String, Object>() {
+                    @Override
+                    public Object load(String line) {
+                        return LineTextPool.this.encoder.encode(line);
+                    }
+                });
+        this.translatedPayloads = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .build(new CacheLoader<String, Object>() {
+                    @Override
+                    public Object load(String line) {
+                        return LineTextPool.this.encoder.encode(translate(line));
+                    }
+                });
+    }
+
+    /**
+     * @param line The line.
+     * @return The shared instance of the line.
+     */
+    public String intern(String line) {
+        return line == null ? null : this.interner.intern(line);
+    }
+
+    /**
+     * Returns the encoded metadata of the line. It is created on the first call for the line.
+     *
+     * @param line      The untranslated line.
+     * @param translate true if the color codes of the line should be translated.
+     * @return The encoded metadata.
+     */
+    public Object payload(String line, boolean translate) {
+        return translate ? this.translatedPayloads.getUnchecked(line) : this.payloads.getUnchecked(line);
+    }
+
+    /**
+     * Translates the color codes of the line.
+     *
+     * @param line The untranslated line.
+     * @return The line with translated color codes.
+     */
+    public String translate(String line) {
+        if (line.indexOf(this.colorChar) < 0) return line;
+
+        return ChatColor.translateAlternateColorCodes(this.colorChar, line);
+    }
+}
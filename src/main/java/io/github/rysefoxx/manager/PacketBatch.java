@@ -0,0 +1,77 @@
+package io.github.rysefoxx.manager;
+
+import com.comphenix.protocol.events.PacketContainer;
+import io.github.rysefoxx.packet.PacketEncoder;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the packets of several holograms and sends them per player in one pass. Consecutive destroys
+ * of a player are merged into a single packet.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/19/2026
+ */
+class PacketBatch {
+
+    private final PacketEncoder encoder;
+    private final Map<Player, Queue> queues = new LinkedHashMap<>();
+
+    PacketBatch(PacketEncoder encoder) {
+        this.encoder = encoder;
+    }
+
+    /**
+     * @param player The player who receives the packet.
+     * @param packet The packet.
+     */
+    void add(Player player, PacketContainer packet) {
+        Queue queue = this.queues.computeIfAbsent(player, key -> new Queue());
+        queue.flushDestroy(this.encoder);
+        queue.packets.add(packet);
+    }
+
+    /**
+     * @param player The player for whom the entities are destroyed.
+     * @param ids    The ids of the entities.
+     */
+    void destroy(Player player, int[] ids) {
+        Queue queue = this.queues.computeIfAbsent(player, key -> new Queue());
+        if (queue.destroy.length < queue.destroyed + ids.length) {
+            queue.destroy = Arrays.copyOf(queue.destroy, Math.max(queue.destroy.length * 2, queue.destroyed + ids.length));
+        }
+        System.arraycopy(ids, 0, queue.destroy, queue.destroyed, ids.length);
+        queue.destroyed += ids.length;
+    }
+
+    /**
+     * @return The collected packets in the order in which they have to be sent, per player.
+     */
+    Map<Player, List<PacketContainer>> drain() {
+        Map<Player, List<PacketContainer>> packets = new LinkedHashMap<>();
+        for (Map.Entry<Player, Queue> entry : this.queues.entrySet()) {
+            entry.getValue().flushDestroy(this.encoder);
+            packets.put(entry.getKey(), entry.getValue().packets);
+        }
+        this.queues.clear();
+        return packets;
+    }
+
+    private static class Queue {
+        private final List<PacketContainer> packets = new ArrayList<>();
+        private int[] destroy = new int[16];
+        private int destroyed = 0;
+
+        private void flushDestroy(PacketEncoder encoder) {
+            if (this.destroyed == 0) return;
+
+            this.packets.addAll(encoder.destroy(Arrays.copyOf(this.destroy, this.destroyed)));
+            this.destroyed = 0;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.rysefoxx.manager;
+
+import io.github.rysefoxx.object.Hologram;
+import io.github.rysefoxx.provider.AsyncHologramProvider;
+import lombok.Getter;
+import lombok.Setter;
+
+import javax.annotation.Nonnegative;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs {@link AsyncHologramProvider} calls on a bounded thread pool and fails them after a timeout. A call that
+ * times out is cancelled: its pool thread is interrupted and the future returned by the provider is cancelled.
+ * The threads are only started by the first call.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/19/2026
+ */
+@Getter
+public class ProviderExecutor {
+
+    private final int threads;
+    private final int queueSize;
+    private ThreadPoolExecutor executor;
+    private ScheduledExecutorService timeouts;
+    private boolean shutdown = false;
+
+    @Setter
+    private long timeout = 5000;
+
+    public ProviderExecutor(@Nonnegative int threads, @Nonnegative int queueSize) {
+        this.threads = threads;
+        this.queueSize = queueSize;
+    }
+
+    /**
+     * Calls the provider on the thread pool.
+     *
+     * @param provider The provider to be called.
+     * @param hologram The hologram that is updated.
+     * @return The lines of the provider. Fails with a {@link TimeoutException} if the provider takes too long
+     * or with a {@link RejectedExecutionException} if the queue is full.
+     */
+    public CompletableFuture<List<String>> submit(AsyncHologramProvider provider, Hologram hologram) {
+        CompletableFuture<List<String>> result = new CompletableFuture<>();
+        AtomicReference<CompletableFuture<List<String>>> pending = new AtomicReference<>();
+
+        Future<?> task;
+        try {
+            start();
+            task = this.executor.submit(() -> {
+                try {
+                    CompletableFuture<List<String>> future = provider.update(hologram);
+                    pending.set(future);
+                    future.whenComplete((lines, error) -> {
+                        if (error != null) {
+                            result.completeExceptionally(error);
+                            return;
+                        }
+                        result.complete(lines);
+                    });
+                } catch (Throwable throwable) {
+                    result.completeExceptionally(throwable);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+
+        ScheduledFuture<?> timeoutTask = this.timeouts.schedule(() -> {
+            if (!result.completeExceptionally(new TimeoutException())) return;
+
+            task.cancel(true);
+            CompletableFuture<List<String>> future = pending.get();
+            if (future != null) future.cancel(true);
+        }, this.timeout, TimeUnit.MILLISECONDS);
+        result.whenComplete((lines, error) -> timeoutTask.cancel(false));
+        return result;
+    }
+
+    /**
+     * Stops all threads. Running provider calls are interrupted.
+     */
+    public synchronized void shutdown() {
+        this.shutdown = true;
+        if (this.executor == null) return;
+
+        this.executor.shutdownNow();
+        this.timeouts.shutdownNow();
+    }
+
+    private synchronized void start() {
+        if (this.shutdown) throw new RejectedExecutionException("The provider executor has been shut down.");
+        if (this.executor != null) return;
+
+        this.executor = new ThreadPoolExecutor(this.threads, this.threads, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(this.queueSize), threadFactory("Hologram-Provider"), new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        this.timeouts = Executors.newSingleThreadScheduledExecutor(threadFactory("Hologram-Provider-Timeout"));
+    }
+
+    private static ThreadFactory threadFactory(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
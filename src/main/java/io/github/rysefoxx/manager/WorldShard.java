@@ -0,0 +1,120 @@
+package io.github.rysefoxx.manager;
+
+import io.github.rysefoxx.object.Hologram;
+import lombok.Getter;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import javax.annotation.Nonnegative;
+import java.util.*;
+
+/**
+ * The holograms of a single world, indexed by chunk. Queries and periodic work only touch the shard of the world
+ * they concern, so their cost no longer grows with the holograms of other worlds.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/19/2026
+ */
+@Getter
+public class WorldShard {
+
+    private final World world;
+    private final int slot;
+    private final List<Hologram> holograms = new ArrayList<>();
+    private final Map<Long, List<Hologram>> chunks = new HashMap<>();
+
+    /**
+     * @param world The world of the shard.
+     * @param slot  The tick within the detail period in which the shard checks its detail levels.
+     */
+    public WorldShard(World world, @Nonnegative int slot) {
+        this.world = world;
+        this.slot = slot;
+    }
+
+    void add(Hologram hologram) {
+        this.holograms.add(hologram);
+        this.chunks.computeIfAbsent(chunkKey(hologram.getSpawnLocation()), key -> new ArrayList<>()).add(hologram);
+    }
+
+    /**
+     * @param hologram The hologram to be removed.
+     * @param location The spawn point under which the hologram has been added.
+     * @return true if the hologram was part of the shard.
+     */
+    boolean remove(Hologram hologram, Location location) {
+        if (!this.holograms.remove(hologram)) return false;
+
+        long key = chunkKey(location);
+        List<Hologram> holograms = this.chunks.get(key);
+        if (holograms != null && holograms.remove(hologram) && holograms.isEmpty()) this.chunks.remove(key);
+        return true;
+    }
+
+    /**
+     * @param x The x coordinate of the chunk.
+     * @param z The z coordinate of the chunk.
+     * @return The holograms whose spawn point is in the chunk.
+     */
+    List<Hologram> getChunk(int x, int z) {
+        return this.chunks.getOrDefault(chunkKey(x, z), Collections.emptyList());
+    }
+
+    /**
+     * Checks the detail level of every hologram of the shard for the players of its world.
+     */
+    void updateDetails() {
+        List<Player> players = null;
+        for (Hologram hologram : this.holograms) {
+            if (hologram.getDetailLevels().isEmpty()) continue;
+
+            if (players == null) players = this.world.getPlayers();
+            players.forEach(hologram::updateDetail);
+        }
+    }
+
+    /**
+     * @param location The starting point.
+     * @param radius   The radius to be checked.
+     * @return All holograms of the shard within the radius.
+     */
+    List<Hologram> locate(Location location, double radius) {
+        List<Hologram> found = new ArrayList<>();
+        double squared = radius * radius;
+
+        int minX = (int) Math.floor(location.getX() - radius) >> 4;
+        int maxX = (int) Math.floor(location.getX() + radius) >> 4;
+        int minZ = (int) Math.floor(location.getZ() - radius) >> 4;
+        int maxZ = (int) Math.floor(location.getZ() + radius) >> 4;
+        if ((long) (maxX - minX + 1) * (maxZ - minZ + 1) > this.chunks.size()) {
+            for (List<Hologram> holograms : this.chunks.values()) {
+                collect(holograms, location, squared, found);
+            }
+            return found;
+        }
+
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                List<Hologram> holograms = this.chunks.get(chunkKey(x, z));
+                if (holograms != null) collect(holograms, location, squared, found);
+            }
+        }
+        return found;
+    }
+
+    private static void collect(List<Hologram> holograms, Location location, double squared, List<Hologram> found) {
+        for (Hologram hologram : holograms) {
+            if (hologram.getSpawnLocation().distanceSquared(location) > squared) continue;
+            found.add(hologram);
+        }
+    }
+
+    private static long chunkKey(Location location) {
+        return chunkKey(location.getBlockX() >> 4, location.getBlockZ() >> 4);
+    }
+
+    private static long chunkKey(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.rysefoxx.object;
+
+import lombok.Getter;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nullable;
+import java.util.List;
+
+/**
+ * Describes what a player sees of a hologram from a certain distance onwards.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/19/2026
+ */
+@Getter
+public class DetailLevel {
+
+    private final double distance;
+    private final int[] lines;
+    private final String summary;
+
+    private DetailLevel(double distance, @Nullable int[] lines, @Nullable String summary) {
+        this.distance = distance;
+        this.lines = lines;
+        this.summary = summary;
+    }
+
+    /**
+     * All lines of the hologram are shown.
+     *
+     * @param distance From this distance onwards the level is used.
+     * @return The detail level.
+     */
+    public static DetailLevel full(@Nonnegative double distance) {
+        return new DetailLevel(distance, null, null);
+    }
+
+    /**
+     * Only the given lines of the hologram are shown. They keep their original position.
+     *
+     * @param distance From this distance onwards the level is used.
+     * @param lines    The indexes of the lines that remain visible.
+     * @return The detail level.
+     */
+    public static DetailLevel reduced(@Nonnegative double distance, @Nonnegative int... lines) {
+        return new DetailLevel(distance, lines.clone(), null);
+    }
+
+    /**
+     * The hologram is collapsed into a single line with the given text.
+     *
+     * @param distance From this distance onwards the level is used.
+     * @param summary  The text that replaces the hologram.
+     * @return The detail level.
+     */
+    public static DetailLevel summary(@Nonnegative double distance, String summary) {
+        return new DetailLevel(distance, null, summary);
+    }
+
+    /**
+     * Builds the lines a player sees at this level.
+     *
+     * @param source The lines of the hologram.
+     * @return An array with one entry per line, null if the line is not shown.
+     */
+    public String[] frame(List<String> source) {
+        String[] frame = new String[source.size()];
+        if (frame.length == 0) return frame;
+
+        if (this.summary != null) {
+            frame[0] = this.summary;
+            return frame;
+        }
+        if (this.lines == null) {
+            return source.toArray(frame);
+        }
+
+        for (int index : this.lines) {
+            if (index < 0 || index >= frame.length) continue;
+            frame[index] = source.get(index);
+        }
+        return frame;
+    }
+}
@@ -1,13 +1,19 @@
 package io.github.rysefoxx.object;
 
-import com.comphenix.protocol.PacketType;
 import com.comphenix.protocol.events.PacketContainer;
-import com.comphenix.protocol.wrappers.WrappedDataWatcher;
 import com.google.common.base.Preconditions;
+import io.github.rysefoxx.manager.ClientState;
+import io.github.rysefoxx.manager.EntityLine;
 import io.github.rysefoxx.manager.HologramManager;
+import io.github.rysefoxx.provider.AsyncHologramProvider;
+import io.github.rysefoxx.provider.HologramClickHandler;
 import io.github.rysefoxx.provider.HologramProvider;
-import io.github.rysefoxx.util.Maths;
+import io.github.rysefoxx.util.ClickAction;
+import io.github.rysefoxx.util.RenderMode;
 import io.github.rysefoxx.util.TimeSetting;
+import io.github.rysefoxx.util.TimingWheel;
+import io.github.rysefoxx.util.UpdatePriority;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.bukkit.Bukkit;
@@ -17,9 +23,12 @@ import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.scheduler.BukkitTask;
 
 import javax.annotation.Nonnegative;
-import java.lang.reflect.InvocationTargetException;
 import java.util.*;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -30,25 +39,67 @@ import java.util.stream.Collectors;
 @Setter
 public class Hologram {
 
+    /**
+     * The detail level of viewers that are closer than the distance of the first {@link DetailLevel}. They see all lines.
+     */
+    public static final int FULL_DETAIL = -1;
+    /**
+     * Passed to {@link #resolveDetailLevel(int, double)} for viewers that do not have a detail level yet.
+     */
+    public static final int NO_DETAIL = Integer.MIN_VALUE;
+
     private static JavaPlugin plugin;
 
     private Object identifier;
     private HologramManager manager;
     private HologramProvider provider;
+    private AsyncHologramProvider asyncProvider;
+    private HologramClickHandler clickHandler;
+    private HologramGroup group;
 
     private final HashMap<Integer, Integer> lineId = new HashMap<>();
     private final HashMap<UUID, BukkitTask> updaterTask = new HashMap<>();
+    private final HashMap<UUID, Integer> detailLevel = new HashMap<>();
+    private final HashMap<UUID, Integer> page = new HashMap<>();
+    private final HashMap<UUID, Boolean> visibility = new HashMap<>();
     private List<String> lines = new ArrayList<>();
+    private List<DetailLevel> detailLevels = new ArrayList<>();
+    private List<HologramPage> pages = new ArrayList<>();
+    @Setter(AccessLevel.NONE)
     private Location spawnLocation = null;
+    private String permission = null;
+    private Predicate<Player> visibilityRule = null;
+    @Setter(AccessLevel.NONE)
+    private BukkitTask pageTask = null;
+    @Setter(AccessLevel.NONE)
+    private BukkitTask asyncTask = null;
+    private final TimingWheel.Timeout<Hologram> expiry = new TimingWheel.Timeout<>(this);
 
     private boolean toggled = true;
     private boolean liveUpdate = false;
     private boolean temporary = false;
     private boolean removeOnDisable = false;
+    @Setter(AccessLevel.NONE)
+    private boolean pooled = false;
+    @Setter(AccessLevel.NONE)
+    private boolean asyncPending = false;
+    private boolean translateColors = false;
+    private boolean persistent = false;
 
     private int delay = 0;
     private int period = 1;
+    private int pageInterval = 0;
+    private int ttl = 0;
+    @Setter(AccessLevel.NONE)
+    private int asyncSkipped = 0;
+    @Setter(AccessLevel.NONE)
+    private long asyncVersion = 0;
     private double distance = 0.25;
+    private double detailHysteresis = 2.0;
+    private double updateRange = 48.0;
+
+    private UpdatePriority priority = UpdatePriority.NORMAL;
+    private RenderMode renderMode = RenderMode.PER_LINE;
 
     /**
      * Makes the hologram disappear for all players.
@@ -98,15 +149,173 @@ public class Hologram {
         players.forEach(this::hideFunctionality);
     }
 
+    /**
+     * Forgets the player as a viewer of the hologram without sending any packet.
+     *
+     * @param player The player who should no longer see the hologram.
+     * @return The entity ids that have to be destroyed for the player.
+     */
+    public int[] releaseViewer(Player player) {
+        if (this.updaterTask.containsKey(player.getUniqueId())) {
+            BukkitTask task = this.updaterTask.remove(player.getUniqueId());
+            if (task != null && Bukkit.getScheduler().isQueued(task.getTaskId())) task.cancel();
+        }
+        this.detailLevel.remove(player.getUniqueId());
+
+        return this.lineId.values().stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Removes all data the hologram has stored about the player.
+     *
+     * @param player The player who left the server.
+     */
+    public void forget(Player player) {
+        releaseViewer(player);
+        this.page.remove(player.getUniqueId());
+        this.visibility.remove(player.getUniqueId());
+    }
+
+    /**
+     * Checks whether the player is allowed to see the hologram. The player must be in the world of the hologram,
+     * have the permission and match the visibility rule. The result is cached until it is invalidated.
+     *
+     * @param player The player to be checked.
+     * @return true if the player may see the hologram.
+     */
+    public boolean canSee(Player player) {
+        if (!Objects.equals(player.getWorld(), this.spawnLocation.getWorld())) return false;
+        if (this.permission == null && this.visibilityRule == null && this.group == null) return true;
+
+        Boolean visible = this.visibility.get(player.getUniqueId());
+        if (visible == null) {
+            visible = (this.permission == null || player.hasPermission(this.permission))
+                    && (this.visibilityRule == null || this.visibilityRule.test(player))
+                    && (this.group == null || this.group.canSee(player));
+            this.visibility.put(player.getUniqueId(), visible);
+        }
+        return visible;
+    }
+
+    /**
+     * @return true if all lines of the hologram are rendered by a single entity.
+     */
+    public boolean isSingleEntity() {
+        return this.renderMode == RenderMode.SINGLE_ENTITY && this.manager.getEncoder().isMultiline();
+    }
+
+    /**
+     * @param player The player to be checked.
+     * @return true if the hologram is currently spawned for the player.
+     */
+    public boolean isViewer(Player player) {
+        return this.detailLevel.containsKey(player.getUniqueId());
+    }
+
+    /**
+     * @param player The player to be checked.
+     * @return The number of entities of the frame the player currently sees, 0 if the player is no viewer.
+     * The page and detail level of the player are taken into account.
+     */
+    public int frameSize(Player player) {
+        Integer level = this.detailLevel.get(player.getUniqueId());
+        if (level == null) return 0;
+
+        int size = 0;
+        for (String line : frame(player, level)) {
+            if (line != null) size++;
+        }
+        return size;
+    }
+
+    /**
+     * Evaluates the visibility of the hologram for the player again and shows or hides it if the result has changed.
+     * Call this when the permission of the player or an input of the visibility rule has changed.
+     *
+     * @param player The player whose visibility is evaluated again.
+     */
+    public void refreshVisibility(Player player) {
+        this.visibility.remove(player.getUniqueId());
+
+        boolean visible = this.toggled && canSee(player);
+        if (visible == isViewer(player)) return;
+
+        if (visible) {
+            show(player);
+            return;
+        }
+        hide(player);
+    }
+
+    /**
+     * Evaluates the visibility of the hologram for all players again.
+     */
+    public void refreshVisibility() {
+        Bukkit.getOnlinePlayers().forEach(this::refreshVisibility);
+    }
+
+    /**
+     * Discards the cached visibility of the player without showing or hiding the hologram.
+     *
+     * @param player The player whose visibility is discarded.
+     */
+    public void invalidateVisibility(Player player) {
+        this.visibility.remove(player.getUniqueId());
+    }
+
+    /**
+     * Creates an empty hologram that belongs to a {@link io.github.rysefoxx.manager.HologramPool}. The hologram has
+     * to be filled with {@link #recycle(Location, int, String...)} before it is created.
+     *
+     * @param manager    The manager of the pool.
+     * @param identifier The identifier of the hologram.
+     * @return The pooled hologram.
+     */
+    public static Hologram pooled(HologramManager manager, Object identifier) {
+        Hologram hologram = new Hologram();
+        hologram.identifier = identifier;
+        hologram.manager = manager;
+        hologram.pooled = true;
+        return hologram;
+    }
+
+    /**
+     * Prepares a pooled hologram for its next use. The collections and entity ids of the hologram are kept.
+     *
+     * @param location The new spawn point.
+     * @param ttl      The number of ticks until the hologram is removed.
+     * @param lines    The new lines.
+     */
+    public void recycle(Location location, @Nonnegative int ttl, String... lines) {
+        Preconditions.checkState(this.pooled, "Only pooled holograms can be recycled.");
+
+        this.lines.clear();
+        for (String line : lines) {
+            this.lines.add(this.manager.getLinePool().intern(line));
+        }
+        this.page.clear();
+        this.visibility.clear();
+        this.spawnLocation = location;
+        this.ttl = ttl;
+        this.toggled = true;
+        this.temporary = true;
+    }
+
+    /**
+     * Stops the update scheduler of the hologram for all players.
+     */
+    public void cancelUpdaters() {
+        this.updaterTask.values().forEach(BukkitTask::cancel);
+        this.updaterTask.clear();
+    }
+
     /**
      * Spawns the hologram for a single player.
      *
      * @param player The player who should see the hologram.
      */
     public void show(Player player) {
-        Location clonedLocation = this.spawnLocation.clone();
-
-        showFunctionality(clonedLocation, player);
+        showFunctionality(player);
     }
 
     /**
@@ -115,10 +324,8 @@ public class Hologram {
      * @param players TThe players you want the hologram to see.
      */
     public void show(Player... players) {
-        Location clonedLocation = this.spawnLocation.clone();
-
         for (Player player : players) {
-            showFunctionality(clonedLocation, player);
+            showFunctionality(player);
         }
     }
 
@@ -128,10 +335,8 @@ public class Hologram {
      * @param players TThe players you want the hologram to see.
      */
     public void show(List<Player> players) {
-        Location clonedLocation = this.spawnLocation.clone();
-
         for (Player player : players) {
-            showFunctionality(clonedLocation, player);
+            showFunctionality(player);
         }
     }
 
@@ -154,6 +359,160 @@ public class Hologram {
         Bukkit.getOnlinePlayers().forEach(this::show);
     }
 
+    /**
+     * Checks the distance of the player to the hologram and switches to another detail level if necessary.
+     * Only the lines that differ between the two levels are sent to the player.
+     *
+     * @param player The player for whom the detail level is checked.
+     */
+    public void updateDetail(Player player) {
+        if (this.detailLevels.isEmpty()) return;
+
+        Integer current = this.detailLevel.get(player.getUniqueId());
+        if (current == null) return;
+
+        applyDetailLevel(player, resolveDetailLevel(player, current));
+    }
+
+    /**
+     * Switches the player to another detail level. Only the lines that differ between the two levels are sent.
+     *
+     * @param player The player who sees the hologram.
+     * @param level  The new detail level.
+     */
+    private void applyDetailLevel(Player player, int level) {
+        Integer current = this.detailLevel.get(player.getUniqueId());
+        if (current == null || level == current) return;
+
+        String[] oldFrame = frame(player, current);
+        String[] newFrame = frame(player, level);
+
+        this.detailLevel.put(player.getUniqueId(), level);
+        applyFrameFunctionality(player, oldFrame, newFrame);
+    }
+
+    /**
+     * Replaces all lines of the hologram. Every player who sees the hologram only receives the lines that have changed.
+     *
+     * @param lines The new lines.
+     * @throws IllegalStateException when the hologram has pages
+     */
+    public void replaceLines(List<String> lines) {
+        checkLinesEditable();
+
+        Map<UUID, Map<Integer, RenderedLine>> before = snapshotViewers();
+        HashMap<Integer, Integer> ids = new HashMap<>();
+        for (Map.Entry<Integer, Integer> entry : this.lineId.entrySet()) {
+            if (entry.getKey() < lines.size()) ids.put(entry.getKey(), entry.getValue());
+        }
+
+        applyEditFunctionality(lines.stream().map(this.manager.getLinePool()::intern).collect(Collectors.toList()), ids, before, Collections.emptyList());
+    }
+
+    /**
+     * Starts calling the asynchronous provider if one has been set.
+     */
+    public void startAsyncUpdates() {
+        if (this.asyncProvider == null || this.asyncTask != null || !this.pages.isEmpty()) return;
+
+        this.asyncTask = Bukkit.getScheduler().runTaskTimer(plugin, this::requestAsyncUpdate, this.delay, this.period);
+    }
+
+    /**
+     * Stops calling the asynchronous provider. Results that are still running are discarded.
+     */
+    public void stopAsyncUpdates() {
+        if (this.asyncTask == null) return;
+
+        this.asyncTask.cancel();
+        this.asyncTask = null;
+        this.asyncVersion++;
+        this.asyncPending = false;
+    }
+
+    /**
+     * Passes a click on one of the entities of the hologram to the click handler.
+     *
+     * @param player   The player who clicked.
+     * @param entityId The entity that was clicked.
+     * @param action   The type of click.
+     */
+    public void click(Player player, int entityId, ClickAction action) {
+        if (this.clickHandler == null || !isViewer(player)) return;
+
+        EntityLine entity = this.manager.getLineByEntity(entityId);
+        if (entity == null || entity.getHologram() != this) return;
+
+        this.clickHandler.onClick(player, this, entity.getLine(), action);
+    }
+
+    /**
+     * Shows the player another page of the hologram. The entities of the hologram are reused,
+     * only the lines that differ between the two pages are sent.
+     *
+     * @param player The player who should see the page.
+     * @param index  The index of the page.
+     */
+    public void showPage(Player player, @Nonnegative int index) {
+        Preconditions.checkArgument(index < this.pages.size(), "The page does not exist.");
+
+        int current = this.page.getOrDefault(player.getUniqueId(), 0);
+        Integer level = this.detailLevel.get(player.getUniqueId());
+        if (level == null) {
+            this.page.put(player.getUniqueId(), index);
+            return;
+        }
+        if (current == index) return;
+
+        String[] oldFrame = frame(player, level);
+        if (!isPageViewed(index)) this.pages.get(index).refresh();
+
+        this.page.put(player.getUniqueId(), index);
+        applyFrameFunctionality(player, oldFrame, frame(player, level));
+    }
+
+    /**
+     * Shows the player the next page of the hologram. After the last page the first page follows.
+     *
+     * @param player The player who should see the next page.
+     */
+    public void nextPage(Player player) {
+        if (this.pages.isEmpty()) return;
+
+        showPage(player, (this.page.getOrDefault(player.getUniqueId(), 0) + 1) % this.pages.size());
+    }
+
+    /**
+     * Shows all players who currently see the hologram the next page.
+     */
+    public void nextPage() {
+        if (this.pages.isEmpty()) return;
+
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if (!isViewer(player)) continue;
+            nextPage(player);
+        }
+    }
+
+    /**
+     * Starts switching the pages automatically if a page interval has been set.
+     */
+    public void startPageRotation() {
+        if (this.pages.size() < 2 || this.pageInterval <= 0 || this.pageTask != null) return;
+
+        this.pageTask = Bukkit.getScheduler().runTaskTimer(plugin, this::nextPage, this.pageInterval, this.pageInterval);
+    }
+
+    /**
+     * Stops switching the pages automatically.
+     */
+    public void stopPageRotation() {
+        if (this.pageTask == null) return;
+
+        this.pageTask.cancel();
+        this.pageTask = null;
+    }
+
     /**
      * Changes the spawn point of the hologram for all players.
      *
@@ -161,7 +520,7 @@ public class Hologram {
      */
     public void updateSpawnLocation(Location location) {
         hideAll();
-        setSpawnLocation(location);
+        relocateFunctionality(location);
         showAll();
     }
 
@@ -173,7 +532,7 @@ public class Hologram {
      */
     public void updateSpawnLocation(Location location, Player player) {
         hide(player);
-        setSpawnLocation(location);
+        relocateFunctionality(location);
         show(player);
     }
 
@@ -185,7 +544,7 @@ public class Hologram {
      */
     public void updateSpawnLocation(Location location, Player... players) {
         Arrays.stream(players).forEach(this::hide);
-        setSpawnLocation(location);
+        relocateFunctionality(location);
         Arrays.stream(players).forEach(this::show);
     }
 
@@ -197,10 +556,53 @@ public class Hologram {
      */
     public void updateSpawnLocation(Location location, List<Player> players) {
         players.forEach(this::hide);
-        setSpawnLocation(location);
+        relocateFunctionality(location);
         players.forEach(this::show);
     }
 
+    /**
+     * Moves the hologram to a new spawn point. A hologram that has no spawn point or manager yet only stores it.
+     *
+     * @param spawnLocation The new spawn point.
+     * @deprecated Use {@link #teleport(Location)} or {@link #updateSpawnLocation(Location)}.
+     */
+    @Deprecated
+    public void setSpawnLocation(Location spawnLocation) {
+        if (this.spawnLocation == null || this.manager == null) {
+            this.spawnLocation = spawnLocation;
+            return;
+        }
+        teleport(spawnLocation);
+    }
+
+    /**
+     * Moves the hologram to a new spawn point without spawning it again. Every viewer receives one move packet
+     * per visible line. A spawn point in another world falls back to {@link #updateSpawnLocation(Location)}.
+     *
+     * @param location The new spawn point.
+     */
+    public void teleport(Location location) {
+        if (!Objects.equals(location.getWorld(), this.spawnLocation.getWorld())) {
+            updateSpawnLocation(location);
+            return;
+        }
+
+        Location previous = this.spawnLocation;
+        relocateFunctionality(location);
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            Integer level = this.detailLevel.get(player.getUniqueId());
+            if (level == null) continue;
+
+            String[] frame = frame(player, level);
+            for (int i = 0; i < frame.length; i++) {
+                Integer id = this.lineId.get(i);
+                if (frame[i] == null || id == null) continue;
+
+                sendPacket(player, this.manager.getEncoder().move(id, lineLocation(previous, i), lineLocation(location, i)));
+            }
+        }
+    }
+
     /**
      * Changes the line spacing of the hologram for all players.
      *
@@ -252,11 +654,11 @@ public class Hologram {
      *
      * @param indexes The lines that are to be changed.
      * @param lines   The new lines.
+     * @throws IllegalStateException when the hologram has pages
      */
     public void updateLines(int[] indexes, String[] lines) {
         Preconditions.checkArgument(indexes.length == lines.length, "The parameters passed must be of the same size.");
 
-        hideAll();
         updateLineFunctionality(indexes, lines);
         showAll();
     }
@@ -267,11 +669,11 @@ public class Hologram {
      * @param indexes The lines that are to be changed.
      * @param lines   The new lines.
      * @param player  The player for whom the lines in the hologram should be changed.
+     * @throws IllegalStateException when the hologram has pages
      */
     public void updateLines(int[] indexes, String[] lines, Player player) {
         Preconditions.checkArgument(indexes.length == lines.length, "The parameters passed must be of the same size.");
 
-        hide(player);
         updateLineFunctionality(indexes, lines);
         show(player);
     }
@@ -282,11 +684,11 @@ public class Hologram {
      * @param indexes The lines that are to be changed.
      * @param lines   The new lines.
      * @param players The players for whom the lines in the hologram should be changed.
+     * @throws IllegalStateException when the hologram has pages
      */
     public void updateLines(int[] indexes, String[] lines, Player... players) {
         Preconditions.checkArgument(indexes.length == lines.length, "The parameters passed must be of the same size.");
 
-        Arrays.stream(players).forEach(this::hide);
         updateLineFunctionality(indexes, lines);
         Arrays.stream(players).forEach(this::show);
     }
@@ -297,11 +699,11 @@ public class Hologram {
      * @param indexes The lines that are to be changed.
      * @param lines   The new lines.
      * @param players The players for whom the lines in the hologram should be changed.
+     * @throws IllegalStateException when the hologram has pages
      */
     public void updateLines(int[] indexes, String[] lines, List<Player> players) {
         Preconditions.checkArgument(indexes.length == lines.length, "The parameters passed must be of the same size.");
 
-        players.forEach(this::hide);
         updateLineFunctionality(indexes, lines);
         players.forEach(this::show);
     }
@@ -311,14 +713,15 @@ public class Hologram {
      *
      * @param index The line of the hologram that is changed.
      * @param line  The text that overwrites the old one.
+     * @throws IllegalStateException when the hologram has pages
      */
     public void updateLine(@Nonnegative int index, String line) {
-        hideAll();
+        checkLinesEditable();
         while (index >= this.lines.size()) {
             this.lines.add("");
         }
 
-        this.lines.set(index, line);
+        this.lines.set(index, this.manager.getLinePool().intern(line));
         showAll();
     }
 
@@ -328,14 +731,15 @@ public class Hologram {
      * @param index  The line of the hologram that is changed.
      * @param line   The text that overwrites the old one.
      * @param player The player for whom the line is to be changed.
+     * @throws IllegalStateException when the hologram has pages
      */
     public void updateLine(@Nonnegative int index, String line, Player player) {
-        hide(player);
+        checkLinesEditable();
         while (index >= this.lines.size()) {
             this.lines.add("");
         }
 
-        this.lines.set(index, line);
+        this.lines.set(index, this.manager.getLinePool().intern(line));
         show(player);
     }
 
@@ -345,14 +749,15 @@ public class Hologram {
      * @param index   The line of the hologram that is changed.
      * @param line    The text that overwrites the old one.
      * @param players The players for whom the line should be changed.
+     * @throws IllegalStateException when the hologram has pages
      */
     public void updateLine(@Nonnegative int index, String line, Player... players) {
-        Arrays.stream(players).forEach(this::hide);
+        checkLinesEditable();
         while (index >= this.lines.size()) {
             this.lines.add("");
         }
 
-        this.lines.set(index, line);
+        this.lines.set(index, this.manager.getLinePool().intern(line));
         Arrays.stream(players).forEach(this::show);
     }
 
@@ -362,271 +767,228 @@ public class Hologram {
      * @param index   The line of the hologram that is changed.
      * @param line    The text that overwrites the old one.
      * @param players The players for whom the line should be changed.
+     * @throws IllegalStateException when the hologram has pages
      */
     public void updateLine(@Nonnegative int index, String line, List<Player> players) {
-        players.forEach(this::hide);
+        checkLinesEditable();
         while (index >= this.lines.size()) {
             this.lines.add("");
         }
 
-        this.lines.set(index, line);
+        this.lines.set(index, this.manager.getLinePool().intern(line));
         players.forEach(this::show);
     }
 
     /**
      * Adds multiple blank lines for all players in the hologram.
+     * The indexes are the positions of the empty lines in the resulting hologram and are applied in a single
+     * pass, so one index does not shift another, e.g. {@code {0, 2}} on {@code [A, B]} results in
+     * {@code ["", A, "", B]}. Negative and duplicate indexes are ignored, an index past the end fills the gap
+     * with empty lines.
      *
      * @param indexes The indexes where an empty line should appear.
+     * @throws IllegalStateException when the hologram has pages
      */
     public void addEmptyLines(@Nonnegative int[] indexes) {
-        hideAll();
-
-        for (int index : indexes) {
-            if (addEmptyLinesForAllFunctionality(index)) return;
-        }
-        showAll();
+        insertLinesFunctionality(indexes, Bukkit.getOnlinePlayers());
     }
 
     /**
      * Adds multiple blank lines for a single player in the hologram.
+     * The indexes are the positions of the empty lines in the resulting hologram and are applied in a single
+     * pass, so one index does not shift another, e.g. {@code {0, 2}} on {@code [A, B]} results in
+     * {@code ["", A, "", B]}. Negative and duplicate indexes are ignored, an index past the end fills the gap
+     * with empty lines.
      *
      * @param indexes The indexes where an empty line should appear.
      * @param player  The player for whom the hologram should get multiple blank lines.
+     * @throws IllegalStateException when the hologram has pages
      */
     public void addEmptyLines(@Nonnegative int[] indexes, Player player) {
-        hide(player);
-
-        for (int index : indexes) {
-            if (addEmptyLineSinglePlayerFunctionality(index, player)) return;
-        }
-        show(player);
+        insertLinesFunctionality(indexes, Collections.singletonList(player));
     }
 
     /**
      * Adds multiple blank lines for multiple players in the hologram.
+     * The indexes are the positions of the empty lines in the resulting hologram and are applied in a single
+     * pass, so one index does not shift another, e.g. {@code {0, 2}} on {@code [A, B]} results in
+     * {@code ["", A, "", B]}. Negative and duplicate indexes are ignored, an index past the end fills the gap
+     * with empty lines.
      *
      * @param indexes The indexes where an empty line should appear.
      * @param players The players for whom the hologram should receive several blank lines.
+     * @throws IllegalStateException when the hologram has pages
      */
     public void addEmptyLines(@Nonnegative int[] indexes, Player... players) {
-        Arrays.stream(players).forEach(this::hide);
-
-        for (int index : indexes) {
-            if (addEmptyLineFunctionality(index, players)) return;
-        }
-        Arrays.stream(players).forEach(this::show);
+        insertLinesFunctionality(indexes, Arrays.asList(players));
     }
 
     /**
      * Adds multiple blank lines for multiple players in the hologram.
+     * The indexes are the positions of the empty lines in the resulting hologram and are applied in a single
+     * pass, so one index does not shift another, e.g. {@code {0, 2}} on {@code [A, B]} results in
+     * {@code ["", A, "", B]}. Negative and duplicate indexes are ignored, an index past the end fills the gap
+     * with empty lines.
      *
      * @param indexes The indexes where an empty line should appear.
      * @param players The players for whom the hologram should receive several blank lines.
+     * @throws IllegalStateException when the hologram has pages
      */
     public void addEmptyLines(@Nonnegative int[] indexes, List<Player> players) {
-        players.forEach(this::hide);
-
-        for (int index : indexes) {
-            if (addEmptyLinesFunctionality(players, index)) return;
-        }
-        players.forEach(this::show);
+        insertLinesFunctionality(indexes, players);
     }
 
     /**
      * Adds a blank line for all players in the hologram.
+     * The line at the index and all following lines move down by one.
      *
      * @param index The index where the empty row should be.
+     * @throws IllegalStateException when the hologram has pages
      */
     public void addEmptyLine(@Nonnegative int index) {
-        hideAll();
-
-        if (addEmptyLinesForAllFunctionality(index)) return;
-        showAll();
+        insertLinesFunctionality(new int[]{index}, Bukkit.getOnlinePlayers());
     }
 
     /**
      * Adds a blank line for a single player in the hologram.
+     * The line at the index and all following lines move down by one.
      *
      * @param index  The index where the empty row should be.
      * @param player The player for whom the hologram should get a blank line.
+     * @throws IllegalStateException when the hologram has pages
      */
     public void addEmptyLine(@Nonnegative int index, Player player) {
-        hide(player);
-
-        if (addEmptyLineSinglePlayerFunctionality(index, player)) return;
-        show(player);
+        insertLinesFunctionality(new int[]{index}, Collections.singletonList(player));
     }
 
     /**
      * Adds a blank line for multiple players in the hologram.
+     * The line at the index and all following lines move down by one.
      *
      * @param index   The index where the empty row should be.
      * @param players The players for whom the hologram should get a blank line.
+     * @throws IllegalStateException when the hologram has pages
      */
     public void addEmptyLine(@Nonnegative int index, Player... players) {
-        Arrays.stream(players).forEach(this::hide);
-
-        if (addEmptyLineFunctionality(index, players)) return;
-        Arrays.stream(players).forEach(this::show);
+        insertLinesFunctionality(new int[]{index}, Arrays.asList(players));
     }
 
     /**
      * Adds a blank line for multiple players in the hologram.
+     * The line at the index and all following lines move down by one.
      *
      * @param index   The index where the empty row should be.
      * @param players The players for whom the hologram should get a blank line.
+     * @throws IllegalStateException when the hologram has pages
      */
     public void addEmptyLine(@Nonnegative int index, List<Player> players) {
-        players.forEach(this::hide);
-
-        if (addEmptyLinesFunctionality(players, index)) return;
-        players.forEach(this::show);
+        insertLinesFunctionality(new int[]{index}, players);
     }
 
     /**
      * We remove several lines in the hologram for all players.
+     * The indexes refer to the lines before the removal and are applied in a single pass, so one index does not
+     * shift another, e.g. {@code {0, 1}} removes the first two lines. Indexes outside the hologram are skipped.
      *
      * @param indexes The indexes of the lines to be removed.
      * @return false If not all lines could be deleted.
+     * @throws IllegalStateException when the hologram has pages
      */
     public boolean clearLines(@Nonnegative int[] indexes) {
-        int linesAffected = 0;
-        for (int index : indexes) {
-            if (index >= this.lines.size()) continue;
-            hideAll();
-
-            this.lines.remove(index);
-            showAll();
-            linesAffected++;
-        }
-
-        return linesAffected >= indexes.length;
+        return clearLinesFunctionality(indexes, Bukkit.getOnlinePlayers()) >= indexes.length;
     }
 
     /**
      * We remove several lines in the hologram for a single player.
+     * The indexes refer to the lines before the removal and are applied in a single pass, so one index does not
+     * shift another, e.g. {@code {0, 1}} removes the first two lines. Indexes outside the hologram are skipped.
      *
      * @param indexes The indexes of the lines to be removed.
      * @param player  The player who receives the hologram where the lines were reduced.
      * @return false If not all lines could be deleted.
+     * @throws IllegalStateException when the hologram has pages
      */
     public boolean clearLines(@Nonnegative int[] indexes, Player player) {
-        int linesAffected = 0;
-        for (int index : indexes) {
-            if (index >= this.lines.size()) continue;
-            hide(player);
-
-            this.lines.remove(index);
-            show(player);
-            linesAffected++;
-        }
-
-        return linesAffected >= indexes.length;
+        return clearLinesFunctionality(indexes, Collections.singletonList(player)) >= indexes.length;
     }
 
     /**
      * We remove several lines in the hologram for multiple players.
+     * The indexes refer to the lines before the removal and are applied in a single pass, so one index does not
+     * shift another, e.g. {@code {0, 1}} removes the first two lines. Indexes outside the hologram are skipped.
      *
      * @param indexes The indexes of the lines to be removed.
      * @param players The players who receive the hologram where the lines were reduced.
      * @return false If not all lines could be deleted.
+     * @throws IllegalStateException when the hologram has pages
      */
     public boolean clearLines(@Nonnegative int[] indexes, Player... players) {
-        int linesAffected = 0;
-        for (int index : indexes) {
-            if (index >= this.lines.size()) continue;
-            Arrays.stream(players).forEach(this::hide);
-
-            this.lines.remove(index);
-            Arrays.stream(players).forEach(this::show);
-            linesAffected++;
-        }
-
-        return linesAffected >= indexes.length;
+        return clearLinesFunctionality(indexes, Arrays.asList(players)) >= indexes.length;
     }
 
     /**
      * We remove several lines in the hologram for multiple players.
+     * The indexes refer to the lines before the removal and are applied in a single pass, so one index does not
+     * shift another, e.g. {@code {0, 1}} removes the first two lines. Indexes outside the hologram are skipped.
      *
      * @param indexes The indexes of the lines to be removed.
      * @param players The players who receive the hologram where the lines were reduced.
      * @return false If not all lines could be deleted.
+     * @throws IllegalStateException when the hologram has pages
      */
     public boolean clearLines(@Nonnegative int[] indexes, List<Player> players) {
-        int linesAffected = 0;
-        for (int index : indexes) {
-            if (index >= this.lines.size()) continue;
-            players.forEach(this::hide);
-
-            this.lines.remove(index);
-            players.forEach(this::show);
-            linesAffected++;
-        }
-
-        return linesAffected >= indexes.length;
+        return clearLinesFunctionality(indexes, players) >= indexes.length;
     }
 
     /**
      * We remove one line from the hologram for all players.
+     * All following lines move up by one.
      *
      * @param index The index of the line to be removed.
      * @return false if the index is greater than or equal to the number of rows.
+     * @throws IllegalStateException when the hologram has pages
      */
     public boolean clearLine(@Nonnegative int index) {
-        if (index >= this.lines.size()) return false;
-        hideAll();
-
-        this.lines.remove(index);
-        showAll();
-        return true;
+        return clearLinesFunctionality(new int[]{index}, Bukkit.getOnlinePlayers()) > 0;
     }
 
     /**
      * We remove one line from the hologram for a single player.
+     * All following lines move up by one.
      *
      * @param index  The index of the line to be removed.
      * @param player The player for whom the line in the hologram should be removed.
      * @return false if the index is greater than or equal to the number of rows.
+     * @throws IllegalStateException when the hologram has pages
      */
     public boolean clearLine(@Nonnegative int index, Player player) {
-        if (index >= this.lines.size()) return false;
-        hide(player);
-
-        this.lines.remove(index);
-        show(player);
-        return true;
+        return clearLinesFunctionality(new int[]{index}, Collections.singletonList(player)) > 0;
     }
 
     /**
      * We remove one line from the hologram for multiple players.
+     * All following lines move up by one.
      *
      * @param index   The index of the line to be removed.
      * @param players The players for whom the line in the hologram should be removed.
      * @return false if the index is greater than or equal to the number of rows.
+     * @throws IllegalStateException when the hologram has pages
      */
     public boolean clearLine(@Nonnegative int index, Player... players) {
-        if (index >= this.lines.size()) return false;
-        Arrays.stream(players).forEach(this::hide);
-
-        this.lines.remove(index);
-        Arrays.stream(players).forEach(this::show);
-        return true;
+        return clearLinesFunctionality(new int[]{index}, Arrays.asList(players)) > 0;
     }
 
     /**
      * We remove one line from the hologram for multiple players.
+     * All following lines move up by one.
      *
      * @param index   The index of the line to be removed.
      * @param players The players for whom the line in the hologram should be removed.
      * @return false if the index is greater than or equal to the number of rows.
+     * @throws IllegalStateException when the hologram has pages
      */
     public boolean clearLine(@Nonnegative int index, List<Player> players) {
-        if (index >= this.lines.size()) return false;
-        players.forEach(this::hide);
-
-        this.lines.remove(index);
-        players.forEach(this::show);
-        return true;
+        return clearLinesFunctionality(new int[]{index}, players) > 0;
     }
 
     /**
@@ -643,17 +1005,32 @@ public class Hologram {
         private Object identifier;
         private HologramManager manager;
         private HologramProvider provider;
+        private AsyncHologramProvider asyncProvider;
+        private HologramClickHandler clickHandler;
 
         private List<String> lines = new ArrayList<>();
         private Location spawnLocation = null;
+        private String permission = null;
+        private Predicate<Player> visibilityRule = null;
 
         private boolean toggled = true;
         private boolean temporary = false;
         private boolean removeOnDisable = false;
+        private boolean translateColors = false;
+        private boolean persistent = false;
 
         private int delay = 0;
         private int period = 1;
         private double distance = 0.25;
+        private double detailHysteresis = 2.0;
+
+        private final List<DetailLevel> detailLevels = new ArrayList<>();
+        private final List<HologramPage> pages = new ArrayList<>();
+        private int pageInterval = 0;
+        private int ttl = 0;
+        private double updateRange = 48.0;
+        private UpdatePriority priority = UpdatePriority.NORMAL;
+        private RenderMode renderMode = RenderMode.PER_LINE;
 
         /**
          * If this method is called, the hologram will be destroyed at the PluginDisableEvent.
@@ -676,6 +1053,52 @@ public class Hologram {
             return this;
         }
 
+        /**
+         * The provider to fill the hologram with content without blocking the server. It is called on a separate
+         * thread pool, its lines are applied on the main thread.
+         *
+         * @param asyncProvider Implement with new AsyncHologramProvider()
+         * @return The builder object.
+         */
+        public Builder asyncProvider(AsyncHologramProvider asyncProvider) {
+            this.asyncProvider = asyncProvider;
+            return this;
+        }
+
+        /**
+         * Is called when a player clicks on the hologram.
+         *
+         * @param clickHandler Implement with new HologramClickHandler()
+         * @return The builder object.
+         */
+        public Builder clickHandler(HologramClickHandler clickHandler) {
+            this.clickHandler = clickHandler;
+            return this;
+        }
+
+        /**
+         * Only players with this permission can see the hologram.
+         *
+         * @param permission The permission.
+         * @return The builder object.
+         */
+        public Builder permission(String permission) {
+            this.permission = permission;
+            return this;
+        }
+
+        /**
+         * Only players that match the rule can see the hologram. The result is cached per player,
+         * use {@link Hologram#refreshVisibility()} when an input of the rule changes.
+         *
+         * @param visibilityRule The rule.
+         * @return The builder object.
+         */
+        public Builder visibleTo(Predicate<Player> visibilityRule) {
+            this.visibilityRule = visibilityRule;
+            return this;
+        }
+
         /**
          * Changes the spacing between the lines.
          *
@@ -687,6 +1110,97 @@ public class Hologram {
             return this;
         }
 
+        /**
+         * Adds a detail level to the hologram. Players further away than the distance of the level see it, players
+         * closer than the distance of the first level see all lines.
+         *
+         * @param detailLevel The detail level to be added.
+         * @return The builder object.
+         */
+        public Builder detailLevel(DetailLevel detailLevel) {
+            this.detailLevels.add(detailLevel);
+            return this;
+        }
+
+        /**
+         * Changes how far a player has to move past the distance of a detail level until the level is switched.
+         *
+         * @param detailHysteresis The distance in blocks.
+         * @return The builder object.
+         */
+        public Builder detailHysteresis(@Nonnegative double detailHysteresis) {
+            this.detailHysteresis = detailHysteresis;
+            return this;
+        }
+
+        /**
+         * Adds a page with fixed content to the hologram.
+         *
+         * @param lines The lines of the page.
+         * @return The builder object.
+         */
+        public Builder page(String... lines) {
+            this.pages.add(HologramPage.of(lines));
+            return this;
+        }
+
+        /**
+         * Adds a page to the hologram.
+         *
+         * @param page The page to be added.
+         * @return The builder object.
+         */
+        public Builder page(HologramPage page) {
+            this.pages.add(page);
+            return this;
+        }
+
+        /**
+         * Switches the pages of the hologram automatically.
+         *
+         * @param time    Time
+         * @param setting Set your own time type.
+         * @return The builder object.
+         */
+        public Builder pageInterval(@Nonnegative int time, TimeSetting setting) {
+            this.pageInterval = setting == TimeSetting.MILLISECONDS ? time : setting == TimeSetting.SECONDS ? time * 20 : setting == TimeSetting.MINUTES ? (time * 20) * 60 : time;
+            return this;
+        }
+
+        /**
+         * Decides which holograms keep their full update rate when the server is under load.
+         *
+         * @param priority The priority of the hologram.
+         * @return The builder object.
+         */
+        public Builder priority(UpdatePriority priority) {
+            this.priority = priority;
+            return this;
+        }
+
+        /**
+         * Decides how the lines are rendered. With {@link RenderMode#SINGLE_ENTITY} all lines are shown by one
+         * text display entity on 1.19.4 and newer, older servers fall back to one entity per line.
+         *
+         * @param renderMode The render mode.
+         * @return The builder object.
+         */
+        public Builder renderMode(RenderMode renderMode) {
+            this.renderMode = renderMode;
+            return this;
+        }
+
+        /**
+         * The provider is only called for players within this distance to the hologram.
+         *
+         * @param updateRange The distance in blocks.
+         * @return The builder object.
+         */
+        public Builder updateRange(@Nonnegative double updateRange) {
+            this.updateRange = updateRange;
+            return this;
+        }
+
         /**
          * Adjusts the period of the scheduler.
          *
@@ -711,6 +1225,19 @@ public class Hologram {
             return this;
         }
 
+        /**
+         * Removes the hologram automatically after the given time. The hologram is marked as temporary.
+         *
+         * @param time    Time
+         * @param setting Set your own time type.
+         * @return The builder object.
+         */
+        public Builder ttl(@Nonnegative int time, TimeSetting setting) {
+            this.ttl = setting == TimeSetting.MILLISECONDS ? time : setting == TimeSetting.SECONDS ? time * 20 : setting == TimeSetting.MINUTES ? (time * 20) * 60 : time;
+            this.temporary = true;
+            return this;
+        }
+
         /**
          * This function sets the temporary variable to true and returns the builder.
          *
@@ -721,6 +1248,27 @@ public class Hologram {
             return this;
         }
 
+        /**
+         * Translates color codes like {@code &a} in the lines of the hologram. Without this the lines are sent as they are.
+         *
+         * @return The builder object.
+         */
+        public Builder translateColors() {
+            this.translateColors = true;
+            return this;
+        }
+
+        /**
+         * Stores the hologram in the snapshot of {@link io.github.rysefoxx.manager.HologramSnapshot#save()}, so it is
+         * restored on the next start. Only static holograms are stored, providers and pages are not part of the snapshot.
+         *
+         * @return The builder object.
+         */
+        public Builder persistent() {
+            this.persistent = true;
+            return this;
+        }
+
         /**
          * This will not spawn the hologram directly when it is created.
          *
@@ -803,9 +1351,24 @@ public class Hologram {
          *
          * @return the Hologram
          * @throws NullPointerException     when {@link Builder#identifier} is null, when {@link Builder#manager} is null or when {@link Builder#spawnLocation} is null
-         * @throws IllegalArgumentException when lines are empty
+         * @throws IllegalArgumentException when lines and pages are empty
          */
         public Hologram build() throws NullPointerException, IllegalArgumentException {
+            Hologram hologram = prepare();
+
+            this.manager.create(hologram);
+
+            return hologram;
+        }
+
+        /**
+         * Builds the Hologram without creating it. Use this together with {@link HologramManager#createAll(Collection)}.
+         *
+         * @return the Hologram
+         * @throws NullPointerException     when {@link Builder#identifier} is null, when {@link Builder#manager} is null or when {@link Builder#spawnLocation} is null
+         * @throws IllegalArgumentException when lines and pages are empty
+         */
+        public Hologram prepare() throws NullPointerException, IllegalArgumentException {
             Hologram hologram = new Hologram();
 
             if (this.identifier == null) {
@@ -817,13 +1380,13 @@ public class Hologram {
             if (this.spawnLocation == null) {
                 throw new NullPointerException("You must pass the spawn point.");
             }
-            if (this.lines.isEmpty()) {
+            if (this.lines.isEmpty() && this.pages.isEmpty()) {
                 throw new IllegalArgumentException("You must set at least 1 line.");
             }
 
             hologram.identifier = this.identifier;
             hologram.manager = this.manager;
-            hologram.lines = this.lines;
+            hologram.lines = this.lines.stream().map(this.manager.getLinePool()::intern).collect(Collectors.toList());
             hologram.spawnLocation = this.spawnLocation;
             hologram.toggled = this.toggled;
             hologram.temporary = this.temporary;
@@ -831,164 +1394,432 @@ public class Hologram {
             hologram.period = this.period;
             hologram.distance = this.distance;
             hologram.provider = this.provider;
+            hologram.asyncProvider = this.asyncProvider;
+            hologram.clickHandler = this.clickHandler;
+            hologram.permission = this.permission;
+            hologram.visibilityRule = this.visibilityRule;
             hologram.removeOnDisable = this.removeOnDisable;
-
-            this.manager.create(hologram);
+            hologram.translateColors = this.translateColors;
+            hologram.persistent = this.persistent;
+            hologram.detailHysteresis = this.detailHysteresis;
+            hologram.pages = new ArrayList<>(this.pages);
+            hologram.pageInterval = this.pageInterval;
+            hologram.ttl = this.ttl;
+            hologram.updateRange = this.updateRange;
+            hologram.priority = this.priority;
+            hologram.renderMode = this.renderMode;
+            hologram.detailLevels = this.detailLevels.stream()
+                    .sorted(Comparator.comparingDouble(DetailLevel::getDistance))
+                    .collect(Collectors.toList());
 
             return hologram;
         }
     }
 
     private void updateLineFunctionality(int[] indexes, String[] lines) {
+        checkLinesEditable();
         for (int i = 0; i < indexes.length; i++) {
             int index = indexes[i];
             String line = lines[i];
             while (index >= this.lines.size()) {
                 this.lines.add("");
             }
-            this.lines.set(index, line);
+            this.lines.set(index, this.manager.getLinePool().intern(line));
         }
     }
 
-    private void addEmptyLineInListFunctionality(@Nonnegative int index) {
-        List<String> lines = new ArrayList<>();
+    private void insertLinesFunctionality(int[] indexes, Collection<? extends Player> players) {
+        checkLinesEditable();
+        int[] positions = Arrays.stream(indexes).filter(index -> index >= 0).sorted().distinct().toArray();
+        if (positions.length == 0) return;
+
+        Map<UUID, Map<Integer, RenderedLine>> before = snapshotViewers();
+        List<String> lines = new ArrayList<>(Math.max(this.lines.size(), positions[positions.length - 1] + 1));
+        HashMap<Integer, Integer> ids = new HashMap<>();
+
+        int source = 0;
+        int next = 0;
+        for (int target = 0; source < this.lines.size() || next < positions.length; target++) {
+            if (next < positions.length && positions[next] == target) {
+                lines.add("");
+                next++;
+                continue;
+            }
+            if (source < this.lines.size()) {
+                Integer id = this.lineId.get(source);
+                if (id != null) ids.put(target, id);
 
-        for (int i = 0; i < this.lines.size(); i++) {
-            String line = this.lines.get(i);
-            if (i == index) lines.add("");
-            lines.add(line);
+                lines.add(this.lines.get(source++));
+                continue;
+            }
+            lines.add("");
         }
-        this.lines = lines;
+
+        applyEditFunctionality(lines, ids, before, players);
     }
 
-    private boolean addEmptyLinesFunctionality(List<Player> players, int index) {
-        if (index >= this.lines.size()) {
-            this.lines.add("");
-            while (index > this.lines.size()) {
-                this.lines.add("");
-            }
-            players.forEach(this::show);
-            return true;
+    private int clearLinesFunctionality(int[] indexes, Collection<? extends Player> players) {
+        checkLinesEditable();
+        boolean[] removed = new boolean[this.lines.size()];
+        int affected = 0;
+        for (int index : indexes) {
+            if (index < 0 || index >= this.lines.size()) continue;
+            removed[index] = true;
+            affected++;
         }
-        addEmptyLineInListFunctionality(index);
-        return false;
+        if (affected == 0) return 0;
+
+        Map<UUID, Map<Integer, RenderedLine>> before = snapshotViewers();
+        List<String> lines = new ArrayList<>(this.lines.size());
+        HashMap<Integer, Integer> ids = new HashMap<>();
+
+        for (int i = 0; i < this.lines.size(); i++) {
+            if (removed[i]) continue;
+
+            Integer id = this.lineId.get(i);
+            if (id != null) ids.put(lines.size(), id);
+            lines.add(this.lines.get(i));
+        }
+
+        applyEditFunctionality(lines, ids, before, players);
+        return affected;
     }
 
-    private boolean addEmptyLineFunctionality(@Nonnegative int index, Player[] players) {
-        if (index >= this.lines.size()) {
-            this.lines.add("");
-            while (index > this.lines.size()) {
-                this.lines.add("");
+    void checkLinesEditable() {
+        Preconditions.checkState(this.pages.isEmpty(), "The lines of a paged hologram cannot be edited, edit its pages instead.");
+    }
+
+    private void applyEditFunctionality(List<String> lines, HashMap<Integer, Integer> ids, Map<UUID, Map<Integer, RenderedLine>> before, Collection<? extends Player> players) {
+        this.lines = lines;
+
+        if (!isSingleEntity()) {
+            Set<Integer> kept = new HashSet<>(ids.values());
+            for (int id : this.lineId.values()) {
+                if (!kept.contains(id)) this.manager.releaseEntityId(id);
             }
-            Arrays.stream(players).forEach(this::show);
-            return true;
+            this.lineId.clear();
+            this.lineId.putAll(ids);
+            ids.forEach((line, id) -> this.manager.reindexEntityId(id, this, line));
         }
 
-        addEmptyLineInListFunctionality(index);
-        return false;
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            Map<Integer, RenderedLine> rendered = before.get(player.getUniqueId());
+            if (rendered != null) reconcileFunctionality(player, rendered);
+        }
+        for (Player player : players) {
+            if (!before.containsKey(player.getUniqueId())) show(player);
+        }
     }
 
-    private boolean addEmptyLinesForAllFunctionality(int index) {
-        if (index >= this.lines.size()) {
-            this.lines.add("");
-            while (index > this.lines.size()) {
-                this.lines.add("");
+    private Map<UUID, Map<Integer, RenderedLine>> snapshotViewers() {
+        Map<UUID, Map<Integer, RenderedLine>> snapshot = new HashMap<>();
+        if (!this.pages.isEmpty()) return snapshot;
+
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            Integer level = this.detailLevel.get(player.getUniqueId());
+            if (level == null) continue;
+
+            String[] frame = frame(player, level);
+            Map<Integer, RenderedLine> rendered = new HashMap<>();
+            for (int i = 0; i < frame.length; i++) {
+                Integer id = this.lineId.get(i);
+                if (frame[i] == null || id == null) continue;
+                rendered.put(id, new RenderedLine(i, frame[i]));
             }
-            showAll();
-            return true;
+            snapshot.put(player.getUniqueId(), rendered);
         }
-        addEmptyLineInListFunctionality(index);
-        return false;
+        return snapshot;
     }
 
-    private boolean addEmptyLineSinglePlayerFunctionality(@Nonnegative int index, Player player) {
-        if (index >= this.lines.size()) {
-            this.lines.add("");
-            while (index > this.lines.size()) {
-                this.lines.add("");
+    private void reconcileFunctionality(Player player, Map<Integer, RenderedLine> rendered) {
+        int level = resolveDetailLevel(player, this.detailLevel.get(player.getUniqueId()));
+        this.detailLevel.put(player.getUniqueId(), level);
+
+        String[] frame = frame(player, level);
+        for (int i = 0; i < frame.length; i++) {
+            if (frame[i] == null) continue;
+
+            Integer id = this.lineId.get(i);
+            RenderedLine line = id == null ? null : rendered.remove(id);
+            if (line == null) {
+                spawnLine(player, i, frame[i]);
+                continue;
             }
-            show(player);
-            return true;
+            if (this.manager.getClientState().isStale(player, id)) {
+                spawnLine(player, i, frame[i]);
+                continue;
+            }
+            if (line.index != i) moveLine(player, i, line.index);
+            if (!line.text.equals(frame[i])) loadLines(player, i, frame[i]);
         }
 
-        addEmptyLineInListFunctionality(index);
-        return false;
+        this.manager.destroyEntities(player, rendered.keySet().stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    private void relocateFunctionality(Location location) {
+        Location previous = this.spawnLocation;
+        this.spawnLocation = location;
+        this.manager.relocate(this, previous);
     }
 
     private void hideFunctionality(Player player) {
-        if (this.updaterTask.containsKey(player.getUniqueId())) {
-            BukkitTask task = this.updaterTask.remove(player.getUniqueId());
-            if (task != null && Bukkit.getScheduler().isQueued(task.getTaskId())) task.cancel();
+        this.manager.destroyEntities(player, releaseViewer(player));
+    }
+
+    private void showFunctionality(Player player) {
+        if (!canSee(player)) return;
+        invokeUpdateScheduler(player);
+
+        Integer current = this.detailLevel.get(player.getUniqueId());
+        if (current != null) {
+            refreshFunctionality(player, current);
+            return;
         }
 
-        for (int i = 0; i < this.lines.size(); i++) {
-            if (!this.lineId.containsKey(i)) continue;
+        int level = resolveDetailLevel(player, NO_DETAIL);
+        this.detailLevel.put(player.getUniqueId(), level);
+
+        String[] frame = frame(player, level);
+        for (int i = 0; i < frame.length; i++) {
+            if (frame[i] == null) continue;
+            spawnLine(player, i, frame[i]);
+        }
+    }
 
-            PacketContainer packet = this.manager.getProtocolManager().createPacket(PacketType.Play.Server.ENTITY_DESTROY);
-            packet.getIntegerArrays().writeSafely(0, new int[]{this.lineId.get(i)});
+    /**
+     * Brings a current viewer up to date. The detail level is resolved from the stored one, so the hysteresis is
+     * kept. Lines of the new frame are spawned or updated, the entities of all other lines are destroyed. The
+     * client state decides what is actually sent, so lines the client already shows cost nothing.
+     */
+    private void refreshFunctionality(Player player, int current) {
+        int level = resolveDetailLevel(player, current);
+        this.detailLevel.put(player.getUniqueId(), level);
+
+        String[] frame = frame(player, level);
+        int[] destroy = new int[this.lineId.size()];
+        int count = 0;
+        for (Map.Entry<Integer, Integer> entry : this.lineId.entrySet()) {
+            int index = entry.getKey();
+            if (index >= frame.length || frame[index] == null) destroy[count++] = entry.getValue();
+        }
+        this.manager.destroyEntities(player, Arrays.copyOf(destroy, count));
 
-            try {
-                this.manager.getProtocolManager().sendServerPacket(player, packet);
-            } catch (InvocationTargetException e) {
-                e.printStackTrace();
-            }
+        for (int i = 0; i < frame.length; i++) {
+            if (frame[i] == null) continue;
+            spawnLine(player, i, frame[i]);
         }
     }
 
-    private void showFunctionality(Location clonedLocation, Player player) {
-        invokeUpdateScheduler(player);
+    /**
+     * Sends the lines changed through a {@link LineView} to the player.
+     *
+     * @param player The player whose provider has changed the lines.
+     * @param dirty  The changed lines.
+     * @param grown  true if lines have been added.
+     */
+    void flushLines(Player player, BitSet dirty, boolean grown) {
+        Integer level = this.detailLevel.get(player.getUniqueId());
+        if (level == null) return;
 
-        for (int i = 0; i < this.lines.size(); i++) {
-            String line = this.lines.get(i);
-            if (!this.lineId.containsKey(i)) {
-                this.lineId.put(i, Maths.randomInteger(1, Integer.MAX_VALUE));
+        if (grown || isSingleEntity() || !this.pages.isEmpty()) {
+            showFunctionality(player);
+            return;
+        }
+
+        String[] frame = frame(player, level);
+        for (int i = dirty.nextSetBit(0); i >= 0 && i < frame.length; i = dirty.nextSetBit(i + 1)) {
+            if (frame[i] == null || !this.lineId.containsKey(i)) continue;
+            loadLines(player, i, frame[i]);
+        }
+    }
+
+    private void applyFrameFunctionality(Player player, String[] oldFrame, String[] newFrame) {
+        int size = Math.max(oldFrame.length, newFrame.length);
+        int[] destroy = new int[size];
+        int count = 0;
+
+        for (int i = 0; i < size; i++) {
+            String before = i < oldFrame.length ? oldFrame[i] : null;
+            String after = i < newFrame.length ? newFrame[i] : null;
+
+            if (after == null) {
+                if (before != null && this.lineId.containsKey(i)) destroy[count++] = this.lineId.get(i);
+                continue;
             }
-            PacketContainer packet = this.manager.getProtocolManager().createPacket(PacketType.Play.Server.SPAWN_ENTITY);
-
-            packet.getIntegers().write(0, this.lineId.get(i));
-
-            packet.getIntegers().write(1, (int) Math.floor(clonedLocation.getX() * 32.0D));
-            packet.getIntegers().write(2, (int) Math.floor(clonedLocation.getY() * 32.0D));
-            packet.getIntegers().write(3, (int) Math.floor(clonedLocation.getZ() * 32.0D));
-            packet.getIntegers().write(4, 0);
-            packet.getIntegers().write(5, 0);
-            packet.getIntegers().write(6, 0);
-            packet.getIntegers().write(7, 0);
-            packet.getIntegers().write(8, 0);
-            packet.getIntegers().write(9, 78);
-            packet.getIntegers().write(10, 0);
-
-            clonedLocation.subtract(0, this.distance, 0);
-            try {
-                this.manager.getProtocolManager().sendServerPacket(player, packet);
-            } catch (InvocationTargetException e) {
-                e.printStackTrace();
+            if (before == null) {
+                spawnLine(player, i, after);
+                continue;
             }
-            loadLines(player, i, line);
+            if (!before.equals(after)) loadLines(player, i, after);
         }
+
+        this.manager.destroyEntities(player, Arrays.copyOf(destroy, count));
     }
 
-    private void loadLines(Player player, @Nonnegative int index, String line) {
-        PacketContainer packet = this.manager.getProtocolManager().createPacket(PacketType.Play.Server.ENTITY_METADATA);
-        WrappedDataWatcher watcher = new WrappedDataWatcher();
-        watcher.setObject(10, (byte) 31, true);
-        watcher.setObject(0, (byte) 32, true);
-        watcher.setObject(3, (byte) 1, true);
-        watcher.setObject(2, line);
-        packet.getIntegers().write(0, this.lineId.get(index));
-        packet.getWatchableCollectionModifier().write(0, watcher.getWatchableObjects());
+    private String[] frame(Player player, int level) {
+        List<String> lines = linesFor(player);
+        String[] frame = level < 0 || this.detailLevels.isEmpty() ? lines.toArray(new String[0]) : this.detailLevels.get(level).frame(lines);
+        if (!isSingleEntity()) return frame;
 
-        try {
-            this.manager.getProtocolManager().sendServerPacket(player, packet);
-        } catch (InvocationTargetException e) {
-            e.printStackTrace();
+        StringJoiner joiner = new StringJoiner("\n");
+        boolean visible = false;
+        for (String line : frame) {
+            if (line == null) continue;
+
+            joiner.add(line);
+            visible = true;
         }
+        return visible ? new String[]{joiner.toString()} : new String[0];
     }
 
-    private void invokeUpdateScheduler(Player player) {
-        if (this.updaterTask.containsKey(player.getUniqueId())) return;
+    private List<String> linesFor(Player player) {
+        if (this.pages.isEmpty()) return this.lines;
+
+        int index = Math.min(this.page.getOrDefault(player.getUniqueId(), 0), this.pages.size() - 1);
+        return this.pages.get(index).getLines();
+    }
+
+    private boolean isPageViewed(int index) {
+        for (UUID uuid : this.detailLevel.keySet()) {
+            if (this.page.getOrDefault(uuid, 0) == index) return true;
+        }
+        return false;
+    }
+
+    private int resolveDetailLevel(Player player, int current) {
+        if (this.detailLevels.isEmpty()) return FULL_DETAIL;
+        if (!Objects.equals(player.getWorld(), this.spawnLocation.getWorld())) return current == NO_DETAIL ? FULL_DETAIL : current;
+
+        return resolveDetailLevel(current, player.getLocation().distance(this.spawnLocation));
+    }
+
+    /**
+     * Resolves the detail level for a viewer at the given distance. Does not access the Bukkit API and may be
+     * called from any thread while the hologram is not changed.
+     *
+     * @param current  The current detail level of the viewer or {@link #NO_DETAIL} if the viewer has none yet.
+     * @param distance The distance between the viewer and the hologram.
+     * @return The new detail level or {@link #FULL_DETAIL} if the viewer is closer than the first detail level.
+     */
+    public int resolveDetailLevel(int current, double distance) {
+        if (this.detailLevels.isEmpty()) return FULL_DETAIL;
+
+        if (current == NO_DETAIL) {
+            int level = FULL_DETAIL;
+            while (level + 1 < this.detailLevels.size() && distance >= this.detailLevels.get(level + 1).getDistance()) {
+                level++;
+            }
+            return level;
+        }
+
+        int level = current;
+        while (level + 1 < this.detailLevels.size() && distance >= this.detailLevels.get(level + 1).getDistance() + this.detailHysteresis) {
+            level++;
+        }
+        while (level >= 0 && distance < this.detailLevels.get(level).getDistance() - this.detailHysteresis) {
+            level--;
+        }
+        return level;
+    }
+
+    private void spawnLine(Player player, @Nonnegative int index, String line) {
+        if (!this.lineId.containsKey(index)) {
+            this.lineId.put(index, this.manager.allocateEntityId(this, index));
+        }
+
+        int id = this.lineId.get(index);
+        ClientState state = this.manager.getClientState();
+        if (state.isSpawned(player, id)) {
+            loadLines(player, index, line);
+            return;
+        }
 
-        BukkitTask task = Bukkit.getScheduler().runTaskTimer(plugin, () -> this.provider.update(player, this), this.delay, this.period);
+        state.spawned(player, id, line);
+        sendPacket(player, this.manager.getEncoder().spawn(id, lineLocation(this.spawnLocation, index)));
+        sendPacket(player, this.manager.getEncoder().metadata(id, this.manager.getLinePool().payload(line, this.translateColors)));
+    }
+
+    private void moveLine(Player player, @Nonnegative int index, @Nonnegative int previousIndex) {
+        sendPacket(player, this.manager.getEncoder().move(this.lineId.get(index), lineLocation(this.spawnLocation, previousIndex), lineLocation(this.spawnLocation, index)));
+    }
+
+    private void loadLines(Player player, @Nonnegative int index, String line) {
+        if (this.manager.getClientState().isStale(player, this.lineId.get(index))) {
+            spawnLine(player, index, line);
+            return;
+        }
+        if (!this.manager.getClientState().updateText(player, this.lineId.get(index), line)) return;
+
+        sendPacket(player, this.manager.getEncoder().metadata(this.lineId.get(index), this.manager.getLinePool().payload(line, this.translateColors)));
+    }
+
+    private void sendPacket(Player player, PacketContainer packet) {
+        this.manager.sendPacket(player, packet);
+    }
+
+    private Location lineLocation(Location origin, @Nonnegative int index) {
+        return origin.clone().subtract(0, this.distance * index, 0);
+    }
+
+    private void invokeUpdateScheduler(Player player) {
+        if (this.provider == null || this.updaterTask.containsKey(player.getUniqueId())) return;
+
+        int[] skipped = {0};
+        LineView view = new LineView(this, player);
+        BukkitTask task = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+            if (!isInUpdateRange(player)) return;
+            if (++skipped[0] < this.manager.getTickMonitor().throttle(this.priority)) return;
+
+            skipped[0] = 0;
+            this.provider.update(player, this, view);
+            view.flush();
+        }, this.delay, this.period);
         this.updaterTask.put(player.getUniqueId(), task);
     }
+
+    private void requestAsyncUpdate() {
+        if (this.asyncPending) return;
+        if (Bukkit.getOnlinePlayers().stream().noneMatch(player -> isViewer(player) && isInUpdateRange(player))) return;
+        if (++this.asyncSkipped < this.manager.getTickMonitor().throttle(this.priority)) return;
+        this.asyncSkipped = 0;
+
+        long version = ++this.asyncVersion;
+        this.asyncPending = true;
+
+        this.manager.getProviderExecutor().submit(this.asyncProvider, this).whenComplete((lines, error) -> {
+            if (!plugin.isEnabled()) return;
+            Bukkit.getScheduler().runTask(plugin, () -> completeAsyncUpdate(version, lines, error));
+        });
+    }
+
+    private void completeAsyncUpdate(long version, List<String> lines, Throwable error) {
+        if (version != this.asyncVersion) return;
+        this.asyncPending = false;
+
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (!(cause instanceof TimeoutException) && !(cause instanceof RejectedExecutionException)) cause.printStackTrace();
+            return;
+        }
+        if (lines == null || !this.pages.isEmpty()) return;
+
+        replaceLines(lines);
+    }
+
+    private boolean isInUpdateRange(Player player) {
+        if (!player.isOnline()) return false;
+        if (!Objects.equals(player.getWorld(), this.spawnLocation.getWorld())) return false;
+
+        return player.getLocation().distanceSquared(this.spawnLocation) <= this.updateRange * this.updateRange;
+    }
+
+    private static class RenderedLine {
+        private final int index;
+        private final String text;
+
+        private RenderedLine(int index, String text) {
+            this.index = index;
+            this.text = text;
+        }
+    }
 }
@@ -0,0 +1,273 @@
+package io.github.rysefoxx.object;
+
+import io.github.rysefoxx.manager.HologramManager;
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.util.Vector;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Holograms that belong together, e.g. a shop display. The holograms are placed relative to a shared origin and
+ * are shown, hidden and moved together. Every player receives the packets of the whole group in one batch.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/19/2026
+ */
+@Getter
+public class HologramGroup {
+
+    private Object identifier;
+    private HologramManager manager;
+    private Location origin;
+    private Predicate<Player> visibilityRule;
+    private boolean toggled = true;
+
+    private final Map<Hologram, Vector> offsets = new LinkedHashMap<>();
+
+    /**
+     * @return The holograms of the group.
+     */
+    public Set<Hologram> getMembers() {
+        return Collections.unmodifiableSet(this.offsets.keySet());
+    }
+
+    /**
+     * Adds a hologram to the group. Its position relative to the origin is kept when the group is moved.
+     *
+     * @param hologram The hologram to be added.
+     */
+    public void add(Hologram hologram) {
+        if (hologram.getGroup() != null) hologram.getGroup().remove(hologram);
+
+        this.offsets.put(hologram, toLocal(hologram.getSpawnLocation()));
+        hologram.setGroup(this);
+        Bukkit.getOnlinePlayers().forEach(hologram::invalidateVisibility);
+    }
+
+    /**
+     * Removes a hologram from the group. The hologram itself is not removed.
+     *
+     * @param hologram The hologram to be removed.
+     */
+    public void remove(Hologram hologram) {
+        if (this.offsets.remove(hologram) == null) return;
+
+        hologram.setGroup(null);
+        Bukkit.getOnlinePlayers().forEach(hologram::invalidateVisibility);
+    }
+
+    /**
+     * @param player The player to be checked.
+     * @return true if the group is enabled and the player matches the visibility rule of the group.
+     */
+    public boolean canSee(Player player) {
+        return this.toggled && (this.visibilityRule == null || this.visibilityRule.test(player));
+    }
+
+    /**
+     * Spawns all holograms of the group for a single player.
+     *
+     * @param player The player who should see the group.
+     */
+    public void show(Player player) {
+        this.manager.batch(() -> showFunctionality(player));
+    }
+
+    /**
+     * Spawns all holograms of the group for all players.
+     */
+    public void showAll() {
+        this.manager.batch(() -> Bukkit.getOnlinePlayers().forEach(this::showFunctionality));
+    }
+
+    /**
+     * Destroys all holograms of the group for a single player with one packet.
+     *
+     * @param player The player who should no longer see the group.
+     */
+    public void hide(Player player) {
+        this.manager.batch(() -> hideFunctionality(player));
+    }
+
+    /**
+     * Destroys all holograms of the group for all players with one packet per player.
+     */
+    public void hideAll() {
+        this.manager.batch(() -> Bukkit.getOnlinePlayers().forEach(this::hideFunctionality));
+    }
+
+    /**
+     * Enables or disables the whole group. A disabled group is hidden from all players.
+     *
+     * @param toggled true if the group should be visible.
+     */
+    public void setToggled(boolean toggled) {
+        if (this.toggled == toggled) return;
+
+        this.toggled = toggled;
+        refreshVisibility();
+    }
+
+    /**
+     * Changes the visibility rule of the group and evaluates the visibility for all players again.
+     *
+     * @param visibilityRule The rule a player must match to see the group. null if everyone may see it.
+     */
+    public void setVisibilityRule(Predicate<Player> visibilityRule) {
+        this.visibilityRule = visibilityRule;
+        refreshVisibility();
+    }
+
+    /**
+     * Evaluates the visibility of all holograms of the group for all players again.
+     */
+    public void refreshVisibility() {
+        this.manager.batch(() -> {
+            for (Player player : Bukkit.getOnlinePlayers()) {
+                this.offsets.keySet().forEach(hologram -> hologram.refreshVisibility(player));
+            }
+        });
+    }
+
+    /**
+     * Moves the group to a new origin. The yaw of the origin rotates the group around it. Holograms that stay in
+     * their world are moved without being spawned again.
+     *
+     * @param origin The new origin.
+     */
+    public void moveTo(Location origin) {
+        this.origin = origin;
+        this.manager.batch(() -> {
+            for (Map.Entry<Hologram, Vector> entry : this.offsets.entrySet()) {
+                entry.getKey().teleport(toWorld(entry.getValue()));
+            }
+        });
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Object identifier;
+        private HologramManager manager;
+        private Location origin;
+        private Predicate<Player> visibilityRule;
+        private final List<Hologram> members = new ArrayList<>();
+
+        /**
+         * Only players matching the rule see the holograms of the group.
+         *
+         * @param visibilityRule The rule a player must match.
+         * @return The builder object.
+         */
+        public Builder visibleTo(Predicate<Player> visibilityRule) {
+            this.visibilityRule = visibilityRule;
+            return this;
+        }
+
+        /**
+         * Adds a hologram to the group. The hologram is created together with the group.
+         *
+         * @param hologram The hologram, created with {@link Hologram.Builder#prepare()}.
+         * @return The builder object.
+         */
+        public Builder member(Hologram hologram) {
+            this.members.add(hologram);
+            return this;
+        }
+
+        /**
+         * @param origin The point the holograms of the group are placed relative to.
+         * @return The builder object.
+         */
+        public Builder origin(Location origin) {
+            this.origin = origin;
+            return this;
+        }
+
+        /**
+         * @param manager The manager that manages the group.
+         * @return The builder object.
+         */
+        public Builder manager(HologramManager manager) {
+            this.manager = manager;
+            return this;
+        }
+
+        /**
+         * @param identifier The identification of the group.
+         * @return The builder object.
+         */
+        public Builder identifier(Object identifier) {
+            this.identifier = identifier;
+            return this;
+        }
+
+        /**
+         * Creates the group and all of its holograms.
+         *
+         * @return The group.
+         * @throws NullPointerException If the identifier, the manager or the origin is missing.
+         */
+        public HologramGroup build() throws NullPointerException {
+            if (this.identifier == null) {
+                throw new NullPointerException("You need to give the group an identification.");
+            }
+            if (this.manager == null) {
+                throw new NullPointerException("You need to pass the HologramManager.");
+            }
+            if (this.origin == null) {
+                throw new NullPointerException("You must pass the origin.");
+            }
+
+            HologramGroup group = new HologramGroup();
+            group.identifier = this.identifier;
+            group.manager = this.manager;
+            group.origin = this.origin;
+            group.visibilityRule = this.visibilityRule;
+            this.members.forEach(group::add);
+
+            this.manager.create(group);
+            return group;
+        }
+    }
+
+    private void showFunctionality(Player player) {
+        if (!canSee(player)) return;
+
+        for (Hologram hologram : this.offsets.keySet()) {
+            if (!hologram.isToggled() || hologram.isViewer(player)) continue;
+            hologram.show(player);
+        }
+    }
+
+    private void hideFunctionality(Player player) {
+        for (Hologram hologram : this.offsets.keySet()) {
+            if (!hologram.isViewer(player)) continue;
+            hologram.hide(player);
+        }
+    }
+
+    private Vector toLocal(Location location) {
+        Vector offset = location.toVector().subtract(this.origin.toVector());
+        return rotate(offset, -this.origin.getYaw());
+    }
+
+    private Location toWorld(Vector offset) {
+        Vector rotated = rotate(offset, this.origin.getYaw());
+        return this.origin.clone().add(rotated);
+    }
+
+    private static Vector rotate(Vector vector, float yaw) {
+        double angle = Math.toRadians(yaw);
+        double cos = Math.cos(angle);
+        double sin = Math.sin(angle);
+        return new Vector(vector.getX() * cos - vector.getZ() * sin, vector.getY(), vector.getX() * sin + vector.getZ() * cos);
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.rysefoxx.object;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * A single page of a hologram. The content of a lazy page is only created when a player looks at it.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/19/2026
+ */
+public class HologramPage {
+
+    private final Supplier<List<String>> supplier;
+    private List<String> lines;
+
+    private HologramPage(@Nullable Supplier<List<String>> supplier, @Nullable List<String> lines) {
+        this.supplier = supplier;
+        this.lines = lines;
+    }
+
+    /**
+     * Creates a page with fixed content.
+     *
+     * @param lines The lines of the page.
+     * @return The page.
+     */
+    public static HologramPage of(String... lines) {
+        return new HologramPage(null, new ArrayList<>(Arrays.asList(lines)));
+    }
+
+    /**
+     * Creates a page with fixed content.
+     *
+     * @param lines The lines of the page.
+     * @return The page.
+     */
+    public static HologramPage of(List<String> lines) {
+        return new HologramPage(null, new ArrayList<>(lines));
+    }
+
+    /**
+     * Creates a page whose content is only requested when the page becomes visible.
+     *
+     * @param supplier Delivers the lines of the page.
+     * @return The page.
+     */
+    public static HologramPage lazy(Supplier<List<String>> supplier) {
+        return new HologramPage(supplier, null);
+    }
+
+    /**
+     * @return The lines of the page. A lazy page is created on the first call.
+     */
+    public List<String> getLines() {
+        if (this.lines == null) refresh();
+        return this.lines;
+    }
+
+    /**
+     * Requests the content of a lazy page again. Pages with fixed content are not changed.
+     */
+    public void refresh() {
+        if (this.supplier == null) return;
+
+        List<String> lines = this.supplier.get();
+        this.lines = lines == null ? new ArrayList<>() : new ArrayList<>(lines);
+    }
+
+    /**
+     * @return true if the content of the page has already been created.
+     */
+    public boolean isMaterialized() {
+        return this.lines != null;
+    }
+}
@@ -0,0 +1,101 @@
+package io.github.rysefoxx.object;
+
+import com.google.common.base.Preconditions;
+import org.bukkit.entity.Player;
+
+import javax.annotation.Nonnegative;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * A writable view on the lines of a hologram that is passed to a {@link io.github.rysefoxx.provider.HologramProvider}.
+ * Writes that do not change a line are ignored. After the provider has returned, only the changed lines are sent
+ * to the player.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/19/2026
+ */
+public class LineView {
+
+    private final Hologram hologram;
+    private final Player player;
+    private final BitSet dirty = new BitSet();
+    private boolean grown = false;
+
+    LineView(Hologram hologram, Player player) {
+        this.hologram = hologram;
+        this.player = player;
+    }
+
+    /**
+     * @return The number of lines of the hologram.
+     */
+    public int size() {
+        return this.hologram.getLines().size();
+    }
+
+    /**
+     * @param index The line.
+     * @return The current text of the line.
+     */
+    public String get(@Nonnegative int index) {
+        return this.hologram.getLines().get(index);
+    }
+
+    /**
+     * @param index The line.
+     * @return The text the client of the player currently shows for the line or null if it is not spawned.
+     */
+    public String getShown(@Nonnegative int index) {
+        Integer id = this.hologram.getLineId().get(index);
+        return id == null ? null : this.hologram.getManager().getClientState().getText(this.player, id);
+    }
+
+    /**
+     * Changes the text of a line. Nothing happens if the line already has the text and the client of the player
+     * shows it. The lines are shared by all players, so a line another player's provider has already written is
+     * still sent to this player. The lines of a paged hologram cannot be changed.
+     *
+     * @param index The line.
+     * @param text  The new text.
+     */
+    public void set(@Nonnegative int index, String text) {
+        Preconditions.checkNotNull(text, "The text of a line must not be null.");
+        this.hologram.checkLinesEditable();
+
+        List<String> lines = this.hologram.getLines();
+        if (index < lines.size() && lines.get(index).equals(text)) {
+            String shown = getShown(index);
+            if (shown == null || shown.equals(text)) return;
+
+            this.dirty.set(index);
+            return;
+        }
+
+        while (index >= lines.size()) {
+            lines.add("");
+            this.grown = true;
+        }
+        lines.set(index, this.hologram.getManager().getLinePool().intern(text));
+        this.dirty.set(index);
+    }
+
+    /**
+     * @param index The line.
+     * @return true if the line has been changed since the last flush.
+     */
+    public boolean isDirty(@Nonnegative int index) {
+        return this.dirty.get(index);
+    }
+
+    /**
+     * Sends the changed lines to the player and resets the view.
+     */
+    void flush() {
+        if (this.dirty.isEmpty()) return;
+
+        this.hologram.flushLines(this.player, this.dirty, this.grown);
+        this.dirty.clear();
+        this.grown = false;
+    }
+}
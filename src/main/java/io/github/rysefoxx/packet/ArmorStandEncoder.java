@@ -0,0 +1,113 @@
+package io.github.rysefoxx.packet;
+
+import com.comphenix.protocol.PacketType;
+import com.comphenix.protocol.ProtocolManager;
+import com.comphenix.protocol.events.PacketContainer;
+import com.comphenix.protocol.utility.MinecraftVersion;
+import com.comphenix.protocol.wrappers.WrappedDataWatcher;
+import com.comphenix.protocol.wrappers.WrappedWatchableObject;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Invisible marker armor stands for 1.9 up to 1.19.3, written with the metadata serializers of ProtocolLib.
+ * The subclasses write the spawn packet of their protocol range. Which fields the metadata contains is decided
+ * in the constructor, so encoding a text does not depend on the version.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/19/2026
+ */
+public abstract class ArmorStandEncoder extends ModernPacketEncoder {
+
+    protected static final byte INVISIBLE = 0x20;
+    protected static final byte SMALL_MARKER = 0x01 | 0x10;
+
+    protected final int armorStandIndex;
+
+    protected final WrappedDataWatcher.Serializer byteSerializer;
+    protected final WrappedDataWatcher.Serializer booleanSerializer;
+    protected final WrappedDataWatcher.Serializer nameSerializer;
+
+    private final Function<String, Object> names;
+    private final WrappedDataWatcher.WrappedDataWatcherObject nameObject;
+    private final WrappedDataWatcher.WrappedDataWatcherObject[] flagObjects;
+    private final Object[] flagValues;
+
+    ArmorStandEncoder(ProtocolManager protocolManager, MinecraftVersion version) {
+        super(protocolManager, version);
+
+        if (version.isAtLeast(PacketEncoders.CAVES_CLIFFS_UPDATE)) {
+            this.armorStandIndex = 15;
+        } else if (version.isAtLeast(PacketEncoders.BEE_UPDATE)) {
+            this.armorStandIndex = 14;
+        } else if (version.isAtLeast(PacketEncoders.VILLAGE_UPDATE)) {
+            this.armorStandIndex = 13;
+        } else if (version.isAtLeast(PacketEncoders.FROSTBURN_UPDATE)) {
+            this.armorStandIndex = 11;
+        } else {
+            this.armorStandIndex = 10;
+        }
+
+        this.byteSerializer = WrappedDataWatcher.Registry.get(Byte.class);
+        this.booleanSerializer = WrappedDataWatcher.Registry.get(Boolean.class);
+        if (version.isAtLeast(PacketEncoders.AQUATIC_UPDATE)) {
+            this.nameSerializer = WrappedDataWatcher.Registry.getChatComponentSerializer(true);
+            this.names = text -> Optional.of(component(text).getHandle());
+        } else {
+            this.nameSerializer = WrappedDataWatcher.Registry.get(String.class);
+            this.names = text -> text;
+        }
+
+        this.nameObject = new WrappedDataWatcher.WrappedDataWatcherObject(2, this.nameSerializer);
+        if (version.isAtLeast(PacketEncoders.FROSTBURN_UPDATE)) {
+            this.flagObjects = new WrappedDataWatcher.WrappedDataWatcherObject[]{
+                    new WrappedDataWatcher.WrappedDataWatcherObject(0, this.byteSerializer),
+                    new WrappedDataWatcher.WrappedDataWatcherObject(3, this.booleanSerializer),
+                    new WrappedDataWatcher.WrappedDataWatcherObject(5, this.booleanSerializer),
+                    new WrappedDataWatcher.WrappedDataWatcherObject(this.armorStandIndex, this.byteSerializer)
+            };
+            this.flagValues = new Object[]{INVISIBLE, true, true, SMALL_MARKER};
+        } else {
+            this.flagObjects = new WrappedDataWatcher.WrappedDataWatcherObject[]{
+                    new WrappedDataWatcher.WrappedDataWatcherObject(0, this.byteSerializer),
+                    new WrappedDataWatcher.WrappedDataWatcherObject(3, this.booleanSerializer),
+                    new WrappedDataWatcher.WrappedDataWatcherObject(this.armorStandIndex, this.byteSerializer)
+            };
+            this.flagValues = new Object[]{INVISIBLE, true, SMALL_MARKER};
+        }
+    }
+
+    @Override
+    public Object encode(String text) {
+        WrappedDataWatcher watcher = new WrappedDataWatcher();
+        for (int i = 0; i < this.flagObjects.length; i++) {
+            watcher.setObject(this.flagObjects[i], this.flagValues[i]);
+        }
+        watcher.setObject(this.nameObject, name(text));
+        return watcher.getWatchableObjects();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public PacketContainer metadata(int entityId, Object payload) {
+        PacketContainer packet = this.protocolManager.createPacket(PacketType.Play.Server.ENTITY_METADATA);
+        packet.getIntegers().write(0, entityId);
+        packet.getWatchableCollectionModifier().write(0, (List<WrappedWatchableObject>) payload);
+        return packet;
+    }
+
+    @Override
+    public boolean isMultiline() {
+        return false;
+    }
+
+    /**
+     * @param text The text.
+     * @return The custom name of the armor stand as the serializer of this protocol expects it.
+     */
+    protected Object name(String text) {
+        return this.names.apply(text);
+    }
+}
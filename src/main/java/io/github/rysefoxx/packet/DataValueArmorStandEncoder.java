@@ -0,0 +1,43 @@
+package io.github.rysefoxx.packet;
+
+import com.comphenix.protocol.PacketType;
+import com.comphenix.protocol.ProtocolManager;
+import com.comphenix.protocol.events.PacketContainer;
+import com.comphenix.protocol.utility.MinecraftVersion;
+import com.comphenix.protocol.wrappers.WrappedDataValue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Armor stands for 1.19.3. The metadata packet carries data values instead of watchable objects.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/19/2026
+ */
+public class DataValueArmorStandEncoder extends EntityTypeArmorStandEncoder {
+
+    public DataValueArmorStandEncoder(ProtocolManager protocolManager, MinecraftVersion version) {
+        super(protocolManager, version);
+    }
+
+    @Override
+    public Object encode(String text) {
+        List<WrappedDataValue> values = new ArrayList<>(5);
+        values.add(new WrappedDataValue(0, this.byteSerializer, INVISIBLE));
+        values.add(new WrappedDataValue(2, this.nameSerializer, name(text)));
+        values.add(new WrappedDataValue(3, this.booleanSerializer, true));
+        values.add(new WrappedDataValue(5, this.booleanSerializer, true));
+        values.add(new WrappedDataValue(this.armorStandIndex, this.byteSerializer, SMALL_MARKER));
+        return values;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public PacketContainer metadata(int entityId, Object payload) {
+        PacketContainer packet = this.protocolManager.createPacket(PacketType.Play.Server.ENTITY_METADATA);
+        packet.getIntegers().write(0, entityId);
+        packet.getDataValueCollectionModifier().write(0, (List<WrappedDataValue>) payload);
+        return packet;
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.rysefoxx.packet;
+
+import com.comphenix.protocol.PacketType;
+import com.comphenix.protocol.ProtocolManager;
+import com.comphenix.protocol.events.PacketContainer;
+import com.comphenix.protocol.utility.MinecraftVersion;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The layouts of the destroy packet since 1.9. 1.17.0 only destroys a single entity per packet.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/19/2026
+ */
+enum DestroyLayout {
+
+    INT_ARRAY {
+        @Override
+        List<PacketContainer> destroy(ProtocolManager protocolManager, int[] entityIds) {
+            PacketContainer packet = protocolManager.createPacket(PacketType.Play.Server.ENTITY_DESTROY);
+            packet.getIntegerArrays().write(0, entityIds);
+            return Collections.singletonList(packet);
+        }
+    },
+    SINGLE_INT {
+        @Override
+        List<PacketContainer> destroy(ProtocolManager protocolManager, int[] entityIds) {
+            List<PacketContainer> packets = new ArrayList<>(entityIds.length);
+            for (int id : entityIds) {
+                PacketContainer packet = protocolManager.createPacket(PacketType.Play.Server.ENTITY_DESTROY);
+                packet.getIntegers().write(0, id);
+                packets.add(packet);
+            }
+            return packets;
+        }
+    },
+    INT_LIST {
+        @Override
+        List<PacketContainer> destroy(ProtocolManager protocolManager, int[] entityIds) {
+            List<Integer> ids = new ArrayList<>(entityIds.length);
+            for (int id : entityIds) ids.add(id);
+
+            PacketContainer packet = protocolManager.createPacket(PacketType.Play.Server.ENTITY_DESTROY);
+            packet.getIntLists().write(0, ids);
+            return Collections.singletonList(packet);
+        }
+    };
+
+    /**
+     * @param protocolManager The ProtocolManager of the server.
+     * @param entityIds       The ids of the entities.
+     * @return The packets that destroy all entities.
+     */
+    abstract List<PacketContainer> destroy(ProtocolManager protocolManager, int[] entityIds);
+
+    /**
+     * @param version The version of the server.
+     * @return The layout of the version.
+     */
+    static DestroyLayout of(MinecraftVersion version) {
+        if (!version.isAtLeast(PacketEncoders.CAVES_CLIFFS_UPDATE)) return INT_ARRAY;
+        if (!version.isAtLeast(PacketEncoders.CAVES_CLIFFS_PATCH)) return SINGLE_INT;
+        return INT_LIST;
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.rysefoxx.packet;
+
+import com.comphenix.protocol.PacketType;
+import com.comphenix.protocol.ProtocolManager;
+import com.comphenix.protocol.events.PacketContainer;
+import com.comphenix.protocol.utility.MinecraftVersion;
+import org.bukkit.Location;
+import org.bukkit.entity.EntityType;
+
+/**
+ * Armor stands for 1.19 up to 1.19.2. Living entities are spawned with the common spawn packet and an entity type.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/19/2026
+ */
+public class EntityTypeArmorStandEncoder extends ArmorStandEncoder {
+
+    public EntityTypeArmorStandEncoder(ProtocolManager protocolManager, MinecraftVersion version) {
+        super(protocolManager, version);
+    }
+
+    @Override
+    public PacketContainer spawn(int entityId, Location location) {
+        PacketContainer packet = this.protocolManager.createPacket(PacketType.Play.Server.SPAWN_ENTITY);
+        packet.getIntegers().write(0, entityId);
+        packet.getUUIDs().write(0, entityUuid(entityId));
+        packet.getEntityTypeModifier().write(0, EntityType.ARMOR_STAND);
+        writePosition(packet, location);
+        return packet;
+    }
+}
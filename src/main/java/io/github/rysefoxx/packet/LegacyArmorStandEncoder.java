@@ -0,0 +1,110 @@
+package io.github.rysefoxx.packet;
+
+import com.comphenix.protocol.PacketType;
+import com.comphenix.protocol.ProtocolManager;
+import com.comphenix.protocol.events.PacketContainer;
+import com.comphenix.protocol.wrappers.EnumWrappers;
+import com.comphenix.protocol.wrappers.WrappedDataWatcher;
+import com.comphenix.protocol.wrappers.WrappedWatchableObject;
+import io.github.rysefoxx.util.ClickAction;
+import org.bukkit.Location;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Invisible armor stands with the 1.8 protocol: object type 78, fixed-point coordinates and DataWatcher indices 0/2/3/10.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/19/2026
+ */
+public class LegacyArmorStandEncoder implements PacketEncoder {
+
+    private final ProtocolManager protocolManager;
+
+    public LegacyArmorStandEncoder(ProtocolManager protocolManager) {
+        this.protocolManager = protocolManager;
+    }
+
+    @Override
+    public PacketContainer spawn(int entityId, Location location) {
+        PacketContainer packet = this.protocolManager.createPacket(PacketType.Play.Server.SPAWN_ENTITY);
+
+        packet.getIntegers().write(0, entityId);
+
+        packet.getIntegers().write(1, (int) Math.floor(location.getX() * 32.0D));
+        packet.getIntegers().write(2, (int) Math.floor(location.getY() * 32.0D));
+        packet.getIntegers().write(3, (int) Math.floor(location.getZ() * 32.0D));
+        packet.getIntegers().write(4, 0);
+        packet.getIntegers().write(5, 0);
+        packet.getIntegers().write(6, 0);
+        packet.getIntegers().write(7, 0);
+        packet.getIntegers().write(8, 0);
+        packet.getIntegers().write(9, 78);
+        packet.getIntegers().write(10, 0);
+        return packet;
+    }
+
+    @Override
+    public Object encode(String text) {
+        WrappedDataWatcher watcher = new WrappedDataWatcher();
+        watcher.setObject(10, (byte) 31, true);
+        watcher.setObject(0, (byte) 32, true);
+        watcher.setObject(3, (byte) 1, true);
+        watcher.setObject(2, text);
+        return watcher.getWatchableObjects();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public PacketContainer metadata(int entityId, Object payload) {
+        PacketContainer packet = this.protocolManager.createPacket(PacketType.Play.Server.ENTITY_METADATA);
+        packet.getIntegers().write(0, entityId);
+        packet.getWatchableCollectionModifier().write(0, (List<WrappedWatchableObject>) payload);
+        return packet;
+    }
+
+    @Override
+    public PacketContainer move(int entityId, Location from, Location to) {
+        int deltaX = (int) Math.floor(to.getX() * 32.0D) - (int) Math.floor(from.getX() * 32.0D);
+        int deltaY = (int) Math.floor(to.getY() * 32.0D) - (int) Math.floor(from.getY() * 32.0D);
+        int deltaZ = (int) Math.floor(to.getZ() * 32.0D) - (int) Math.floor(from.getZ() * 32.0D);
+
+        if (fitsByte(deltaX) && fitsByte(deltaY) && fitsByte(deltaZ)) {
+            PacketContainer packet = this.protocolManager.createPacket(PacketType.Play.Server.REL_ENTITY_MOVE);
+            packet.getIntegers().write(0, entityId);
+            packet.getBytes().write(0, (byte) deltaX);
+            packet.getBytes().write(1, (byte) deltaY);
+            packet.getBytes().write(2, (byte) deltaZ);
+            return packet;
+        }
+
+        PacketContainer packet = this.protocolManager.createPacket(PacketType.Play.Server.ENTITY_TELEPORT);
+        packet.getIntegers().write(0, entityId);
+        packet.getIntegers().write(1, (int) Math.floor(to.getX() * 32.0D));
+        packet.getIntegers().write(2, (int) Math.floor(to.getY() * 32.0D));
+        packet.getIntegers().write(3, (int) Math.floor(to.getZ() * 32.0D));
+        return packet;
+    }
+
+    @Override
+    public List<PacketContainer> destroy(int[] entityIds) {
+        PacketContainer packet = this.protocolManager.createPacket(PacketType.Play.Server.ENTITY_DESTROY);
+        packet.getIntegerArrays().writeSafely(0, entityIds);
+        return Collections.singletonList(packet);
+    }
+
+    @Override
+    public ClickAction clickAction(PacketContainer packet) {
+        return packet.getEntityUseActions().readSafely(0) == EnumWrappers.EntityUseAction.ATTACK ? ClickAction.LEFT : ClickAction.RIGHT;
+    }
+
+    private static boolean fitsByte(int value) {
+        return value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE;
+    }
+
+    @Override
+    public boolean isMultiline() {
+        return false;
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.rysefoxx.packet;
+
+import com.comphenix.protocol.PacketType;
+import com.comphenix.protocol.ProtocolManager;
+import com.comphenix.protocol.events.PacketContainer;
+import com.comphenix.protocol.utility.MinecraftVersion;
+import com.comphenix.protocol.wrappers.WrappedDataWatcher;
+import org.bukkit.Location;
+
+/**
+ * Armor stands for 1.14 up to 1.18.2. They are spawned with the living entity packet and type id 1. Before 1.15
+ * the packet still carries the metadata of the entity, an empty one is written there.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/19/2026
+ */
+public class LivingArmorStandEncoder extends ArmorStandEncoder {
+
+    private final boolean spawnMetadata;
+
+    public LivingArmorStandEncoder(ProtocolManager protocolManager, MinecraftVersion version) {
+        super(protocolManager, version);
+        this.spawnMetadata = !version.isAtLeast(PacketEncoders.BEE_UPDATE);
+    }
+
+    @Override
+    public PacketContainer spawn(int entityId, Location location) {
+        PacketContainer packet = this.protocolManager.createPacket(PacketType.Play.Server.SPAWN_ENTITY_LIVING);
+        packet.getIntegers().write(0, entityId);
+        packet.getUUIDs().write(0, entityUuid(entityId));
+        packet.getIntegers().write(1, 1);
+        writePosition(packet, location);
+        if (this.spawnMetadata) packet.getDataWatcherModifier().write(0, new WrappedDataWatcher());
+        return packet;
+    }
+}
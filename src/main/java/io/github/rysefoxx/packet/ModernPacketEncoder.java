@@ -0,0 +1,95 @@
+package io.github.rysefoxx.packet;
+
+import com.comphenix.protocol.PacketType;
+import com.comphenix.protocol.ProtocolManager;
+import com.comphenix.protocol.events.PacketContainer;
+import com.comphenix.protocol.utility.MinecraftVersion;
+import com.comphenix.protocol.wrappers.EnumWrappers;
+import com.comphenix.protocol.wrappers.WrappedChatComponent;
+import io.github.rysefoxx.util.ClickAction;
+import org.bukkit.Location;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Shared packets of all protocols since 1.9: double coordinates, entity UUIDs and the destroy layouts.
+ * Everything that depends on the version is decided in the constructor.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/19/2026
+ */
+abstract class ModernPacketEncoder implements PacketEncoder {
+
+    protected final ProtocolManager protocolManager;
+    private final DestroyLayout destroyLayout;
+    private final boolean wrappedUseAction;
+
+    ModernPacketEncoder(ProtocolManager protocolManager, MinecraftVersion version) {
+        this.protocolManager = protocolManager;
+        this.destroyLayout = DestroyLayout.of(version);
+        this.wrappedUseAction = version.isAtLeast(PacketEncoders.CAVES_CLIFFS_UPDATE);
+    }
+
+    @Override
+    public PacketContainer move(int entityId, Location from, Location to) {
+        PacketContainer packet = this.protocolManager.createPacket(PacketType.Play.Server.ENTITY_TELEPORT);
+        packet.getIntegers().write(0, entityId);
+        writePosition(packet, to);
+        return packet;
+    }
+
+    @Override
+    public List<PacketContainer> destroy(int[] entityIds) {
+        return this.destroyLayout.destroy(this.protocolManager, entityIds);
+    }
+
+    @Override
+    public ClickAction clickAction(PacketContainer packet) {
+        EnumWrappers.EntityUseAction action = this.wrappedUseAction
+                ? packet.getEnumEntityUseActions().read(0).getAction()
+                : packet.getEntityUseActions().read(0);
+        return action == EnumWrappers.EntityUseAction.ATTACK ? ClickAction.LEFT : ClickAction.RIGHT;
+    }
+
+    protected static void writePosition(PacketContainer packet, Location location) {
+        packet.getDoubles().write(0, location.getX());
+        packet.getDoubles().write(1, location.getY());
+        packet.getDoubles().write(2, location.getZ());
+    }
+
+    protected static UUID entityUuid(int entityId) {
+        return new UUID(0x486F6C6F6772616DL, entityId);
+    }
+
+    /**
+     * Wraps the text in a chat component. Legacy color codes inside the text are still rendered by the client.
+     *
+     * @param text The text.
+     * @return The chat component.
+     */
+    protected static WrappedChatComponent component(String text) {
+        StringBuilder json = new StringBuilder(text.length() + 12).append("{\"text\":\"");
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                case '\n':
+                    json.append("\\n");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                        break;
+                    }
+                    json.append(c);
+            }
+        }
+        return WrappedChatComponent.fromJson(json.append("\"}").toString());
+    }
+}
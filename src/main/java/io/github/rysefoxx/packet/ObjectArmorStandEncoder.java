@@ -0,0 +1,31 @@
+package io.github.rysefoxx.packet;
+
+import com.comphenix.protocol.PacketType;
+import com.comphenix.protocol.ProtocolManager;
+import com.comphenix.protocol.events.PacketContainer;
+import com.comphenix.protocol.utility.MinecraftVersion;
+import org.bukkit.Location;
+
+/**
+ * Armor stands for 1.9 up to 1.13.2. They are spawned as object type 78, the custom name is a plain string
+ * before 1.13.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/19/2026
+ */
+public class ObjectArmorStandEncoder extends ArmorStandEncoder {
+
+    public ObjectArmorStandEncoder(ProtocolManager protocolManager, MinecraftVersion version) {
+        super(protocolManager, version);
+    }
+
+    @Override
+    public PacketContainer spawn(int entityId, Location location) {
+        PacketContainer packet = this.protocolManager.createPacket(PacketType.Play.Server.SPAWN_ENTITY);
+        packet.getIntegers().write(0, entityId);
+        packet.getUUIDs().write(0, entityUuid(entityId));
+        packet.getIntegers().write(6, 78);
+        writePosition(packet, location);
+        return packet;
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.rysefoxx.packet;
+
+import com.comphenix.protocol.events.PacketContainer;
+import io.github.rysefoxx.util.ClickAction;
+import org.bukkit.Location;
+
+import java.util.List;
+
+/**
+ * Builds the packets of a hologram line for the protocol of the running server.
+ * The encoder is selected once at startup by {@link PacketEncoders#select(com.comphenix.protocol.ProtocolManager)}.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/19/2026
+ */
+public interface PacketEncoder {
+
+    /**
+     * @param entityId The id of the entity.
+     * @param location The position of the entity.
+     * @return The packet that spawns the entity.
+     */
+    PacketContainer spawn(int entityId, Location location);
+
+    /**
+     * Encodes the metadata of a text. The result does not depend on the entity and can be reused for every packet.
+     *
+     * @param text The text the entity shows.
+     * @return The encoded metadata.
+     */
+    Object encode(String text);
+
+    /**
+     * @param entityId The id of the entity.
+     * @param payload  The metadata created by {@link #encode(String)}.
+     * @return The packet that sets the text of the entity.
+     */
+    PacketContainer metadata(int entityId, Object payload);
+
+    /**
+     * @param entityId The id of the entity.
+     * @param from     The current position of the entity.
+     * @param to       The new position of the entity.
+     * @return The packet that moves the entity.
+     */
+    PacketContainer move(int entityId, Location from, Location to);
+
+    /**
+     * @param entityIds The ids of the entities.
+     * @return The packets that destroy all entities. Most protocols need a single packet.
+     */
+    List<PacketContainer> destroy(int[] entityIds);
+
+    /**
+     * @return true if a single entity of this encoder can show several lines separated by a line break.
+     */
+    boolean isMultiline();
+
+    /**
+     * @param packet A received USE_ENTITY packet.
+     * @return The type of click.
+     */
+    ClickAction clickAction(PacketContainer packet);
+}
@@ -0,0 +1,46 @@
+package io.github.rysefoxx.packet;
+
+import com.comphenix.protocol.ProtocolManager;
+import com.comphenix.protocol.utility.MinecraftVersion;
+
+/**
+ * Selects the packet encoder for the running server.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/19/2026
+ */
+public final class PacketEncoders {
+
+    static final MinecraftVersion COMBAT_UPDATE = new MinecraftVersion("1.9");
+    static final MinecraftVersion FROSTBURN_UPDATE = new MinecraftVersion("1.10");
+    static final MinecraftVersion AQUATIC_UPDATE = new MinecraftVersion("1.13");
+    static final MinecraftVersion VILLAGE_UPDATE = new MinecraftVersion("1.14");
+    static final MinecraftVersion BEE_UPDATE = new MinecraftVersion("1.15");
+    static final MinecraftVersion CAVES_CLIFFS_UPDATE = new MinecraftVersion("1.17");
+    static final MinecraftVersion CAVES_CLIFFS_PATCH = new MinecraftVersion("1.17.1");
+    static final MinecraftVersion WILD_UPDATE = new MinecraftVersion("1.19");
+    static final MinecraftVersion DATA_VALUE_UPDATE = new MinecraftVersion("1.19.3");
+    static final MinecraftVersion DISPLAY_UPDATE = new MinecraftVersion("1.19.4");
+    static final MinecraftVersion INTERPOLATION_UPDATE = new MinecraftVersion("1.20.2");
+
+    private PacketEncoders() {
+    }
+
+    /**
+     * Selects the encoder that matches the protocol of the server.
+     *
+     * @param protocolManager The ProtocolManager of the server.
+     * @return 1.8 armor stands, armor stands with the spawn and metadata layout of their protocol from 1.9 or text
+     * displays from 1.19.4.
+     */
+    public static PacketEncoder select(ProtocolManager protocolManager) {
+        MinecraftVersion version = protocolManager.getMinecraftVersion();
+
+        if (!version.isAtLeast(COMBAT_UPDATE)) return new LegacyArmorStandEncoder(protocolManager);
+        if (!version.isAtLeast(VILLAGE_UPDATE)) return new ObjectArmorStandEncoder(protocolManager, version);
+        if (!version.isAtLeast(WILD_UPDATE)) return new LivingArmorStandEncoder(protocolManager, version);
+        if (!version.isAtLeast(DATA_VALUE_UPDATE)) return new EntityTypeArmorStandEncoder(protocolManager, version);
+        if (!version.isAtLeast(DISPLAY_UPDATE)) return new DataValueArmorStandEncoder(protocolManager, version);
+        return new TextDisplayEncoder(protocolManager, version);
+    }
+}
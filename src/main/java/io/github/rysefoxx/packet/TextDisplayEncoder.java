@@ -0,0 +1,75 @@
+package io.github.rysefoxx.packet;
+
+import com.comphenix.protocol.PacketType;
+import com.comphenix.protocol.ProtocolManager;
+import com.comphenix.protocol.events.PacketContainer;
+import com.comphenix.protocol.utility.MinecraftVersion;
+import com.comphenix.protocol.wrappers.WrappedDataValue;
+import com.comphenix.protocol.wrappers.WrappedDataWatcher;
+import org.bukkit.Location;
+import org.bukkit.entity.EntityType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Text display entities from 1.19.4 onwards. The text always faces the player.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/19/2026
+ */
+public class TextDisplayEncoder extends ModernPacketEncoder {
+
+    private static final byte BILLBOARD_CENTER = 3;
+
+    private final EntityType textDisplay;
+    private final int billboardIndex;
+    private final int textIndex;
+
+    private final WrappedDataWatcher.Serializer byteSerializer;
+    private final WrappedDataWatcher.Serializer textSerializer;
+
+    public TextDisplayEncoder(ProtocolManager protocolManager, MinecraftVersion version) {
+        super(protocolManager, version);
+
+        int offset = version.isAtLeast(PacketEncoders.INTERPOLATION_UPDATE) ? 1 : 0;
+        this.textDisplay = EntityType.valueOf("TEXT_DISPLAY");
+        this.billboardIndex = 14 + offset;
+        this.textIndex = 22 + offset;
+
+        this.byteSerializer = WrappedDataWatcher.Registry.get(Byte.class);
+        this.textSerializer = WrappedDataWatcher.Registry.getChatComponentSerializer(false);
+    }
+
+    @Override
+    public PacketContainer spawn(int entityId, Location location) {
+        PacketContainer packet = this.protocolManager.createPacket(PacketType.Play.Server.SPAWN_ENTITY);
+        packet.getIntegers().write(0, entityId);
+        packet.getUUIDs().write(0, entityUuid(entityId));
+        packet.getEntityTypeModifier().write(0, this.textDisplay);
+        writePosition(packet, location);
+        return packet;
+    }
+
+    @Override
+    public Object encode(String text) {
+        List<WrappedDataValue> values = new ArrayList<>(2);
+        values.add(new WrappedDataValue(this.billboardIndex, this.byteSerializer, BILLBOARD_CENTER));
+        values.add(new WrappedDataValue(this.textIndex, this.textSerializer, component(text).getHandle()));
+        return values;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public PacketContainer metadata(int entityId, Object payload) {
+        PacketContainer packet = this.protocolManager.createPacket(PacketType.Play.Server.ENTITY_METADATA);
+        packet.getIntegers().write(0, entityId);
+        packet.getDataValueCollectionModifier().write(0, (List<WrappedDataValue>) payload);
+        return packet;
+    }
+
+    @Override
+    public boolean isMultiline() {
+        return true;
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.rysefoxx.provider;
+
+import io.github.rysefoxx.object.Hologram;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncHologramProvider {
+
+    /**
+     * Is called on a thread of the provider pool, never on the main thread. The returned lines replace the lines
+     * of the hologram on the main thread.
+     * <p>
+     * A call that does not complete within the timeout of the {@link io.github.rysefoxx.manager.ProviderExecutor}
+     * is cancelled: the calling thread is interrupted and the returned future is cancelled. Blocking work should
+     * respond to interruption, e.g. by using interruptible I/O or checking {@link Thread#isInterrupted()}, so a
+     * slow provider does not keep the pool busy.
+     *
+     * @param hologram The hologram that is updated.
+     * @return The new lines of the hologram. Completing the future with null keeps the current lines.
+     */
+    CompletableFuture<List<String>> update(Hologram hologram);
+
+}
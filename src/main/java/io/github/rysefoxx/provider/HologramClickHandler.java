@@ -0,0 +1,11 @@
+package io.github.rysefoxx.provider;
+
+import io.github.rysefoxx.object.Hologram;
+import io.github.rysefoxx.util.ClickAction;
+import org.bukkit.entity.Player;
+
+public interface HologramClickHandler {
+
+    void onClick(Player player, Hologram hologram, int line, ClickAction action);
+
+}
@@ -1,10 +1,32 @@
 package io.github.rysefoxx.provider;
 
 import io.github.rysefoxx.object.Hologram;
+import io.github.rysefoxx.object.LineView;
 import org.bukkit.entity.Player;
 
 public interface HologramProvider {
 
-    void update(Player player, Hologram hologram);
+    /**
+     * Is called by the update scheduler of the hologram unless {@link #update(Player, Hologram, LineView)} is
+     * overridden. It is enough to implement one of both methods.
+     *
+     * @param player   The player for whom the hologram is updated.
+     * @param hologram The hologram that is updated.
+     */
+    default void update(Player player, Hologram hologram) {
+    }
+
+    /**
+     * Is called by the update scheduler of the hologram. Lines written to the view are compared with their current
+     * text and only the changed lines are sent to the player afterwards. Override this method to use diff-based
+     * updates instead of {@link Hologram#updateLines(int[], String[], Player)}.
+     *
+     * @param player   The player for whom the hologram is updated.
+     * @param hologram The hologram that is updated.
+     * @param lines    The writable view on the lines of the hologram.
+     */
+    default void update(Player player, Hologram hologram, LineView lines) {
+        update(player, hologram);
+    }
 
 }
@@ -0,0 +1,298 @@
+package io.github.rysefoxx.sync;
+
+import io.github.rysefoxx.manager.HologramManager;
+import io.github.rysefoxx.object.Hologram;
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * Synchronizes holograms between the servers of a network. The server that shares a hologram publishes its
+ * definition once and afterwards only the lines that have changed. All other servers create a mirror of the
+ * hologram and apply the changes to it. A server that misses a change requests the full definition again.
+ * Holograms of worlds that are not loaded on a server are only tracked by their sequence there, so their changes
+ * do not cause repeated requests.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/19/2026
+ */
+@Getter
+public class HologramSync {
+
+    private final HologramManager manager;
+    private final MessageBus bus;
+    private final long node = ThreadLocalRandom.current().nextLong();
+    private final Map<String, Shared> shared = new HashMap<>();
+    private final Map<String, Mirror> mirrors = new HashMap<>();
+    private final Consumer<byte[]> listener = this::receive;
+
+    public HologramSync(HologramManager manager, MessageBus bus) {
+        this.manager = manager;
+        this.bus = bus;
+    }
+
+    /**
+     * Starts receiving the holograms of other servers.
+     */
+    public void start() {
+        this.bus.subscribe(this.listener);
+    }
+
+    /**
+     * Stops receiving the holograms of other servers. Mirrors that have already been created are kept.
+     */
+    public void stop() {
+        this.bus.unsubscribe(this.listener);
+    }
+
+    /**
+     * Shares the hologram with all other servers. The identifier of the hologram must be unique in the network.
+     *
+     * @param hologram The hologram to be shared.
+     */
+    public void share(Hologram hologram) {
+        String identifier = String.valueOf(hologram.getIdentifier());
+        Shared entry = new Shared(hologram);
+        this.shared.put(identifier, entry);
+        publishDefinition(identifier, entry);
+    }
+
+    /**
+     * Publishes the lines of a shared hologram that have changed since the last call.
+     *
+     * @param hologram The shared hologram.
+     */
+    public void push(Hologram hologram) {
+        String identifier = String.valueOf(hologram.getIdentifier());
+        Shared entry = this.shared.get(identifier);
+        if (entry == null) return;
+
+        List<String> lines = hologram.getLines();
+        List<Integer> changed = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            if (i >= entry.lines.size() || !Objects.equals(entry.lines.get(i), lines.get(i))) changed.add(i);
+        }
+        if (changed.isEmpty() && lines.size() == entry.lines.size()) return;
+
+        entry.sequence++;
+        entry.lines = new ArrayList<>(lines);
+        publish(output -> {
+            output.writeByte(SyncCodec.DELTA);
+            output.writeLong(this.node);
+            SyncCodec.writeString(output, identifier);
+            SyncCodec.writeVarInt(output, entry.sequence);
+            SyncCodec.writeVarInt(output, lines.size());
+            SyncCodec.writeVarInt(output, changed.size());
+            for (int index : changed) {
+                SyncCodec.writeVarInt(output, index);
+                SyncCodec.writeString(output, lines.get(index));
+            }
+        });
+    }
+
+    /**
+     * Stops sharing the hologram and removes its mirrors on all other servers.
+     *
+     * @param hologram The shared hologram.
+     */
+    public void unshare(Hologram hologram) {
+        String identifier = String.valueOf(hologram.getIdentifier());
+        if (this.shared.remove(identifier) == null) return;
+
+        publish(output -> {
+            output.writeByte(SyncCodec.REMOVE);
+            output.writeLong(this.node);
+            SyncCodec.writeString(output, identifier);
+        });
+    }
+
+    private void receive(byte[] message) {
+        if (Bukkit.isPrimaryThread()) {
+            apply(message);
+            return;
+        }
+        Bukkit.getScheduler().runTask(this.manager.getPlugin(), () -> apply(message));
+    }
+
+    private void apply(byte[] message) {
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(message))) {
+            byte type = input.readByte();
+            if (input.readLong() == this.node) return;
+
+            String identifier = SyncCodec.readString(input);
+            switch (type) {
+                case SyncCodec.DEFINE:
+                    applyDefinition(identifier, input);
+                    break;
+                case SyncCodec.DELTA:
+                    try {
+                        applyDelta(identifier, input);
+                    } catch (IOException e) {
+                        requestDefinition(identifier);
+                        throw e;
+                    }
+                    break;
+                case SyncCodec.REMOVE:
+                    Mirror mirror = this.mirrors.remove(identifier);
+                    if (mirror != null && mirror.hologram != null) this.manager.remove(mirror.hologram);
+                    break;
+                case SyncCodec.RESYNC:
+                    Shared entry = this.shared.get(identifier);
+                    if (entry != null) publishDefinition(identifier, entry);
+                    break;
+                default:
+                    break;
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void applyDefinition(String identifier, DataInputStream input) throws IOException {
+        int sequence = SyncCodec.readVarInt(input);
+        World world = Bukkit.getWorld(SyncCodec.readString(input));
+        Location location = new Location(world, input.readDouble(), input.readDouble(), input.readDouble());
+        double distance = input.readDouble();
+        boolean translateColors = input.readBoolean();
+        List<String> lines = new ArrayList<>();
+        for (int i = SyncCodec.readVarInt(input); i > 0; i--) {
+            lines.add(SyncCodec.readString(input));
+        }
+        Mirror mirror = this.mirrors.get(identifier);
+        if (world == null) {
+            if (mirror != null && mirror.hologram != null) this.manager.remove(mirror.hologram);
+            this.mirrors.put(identifier, new Mirror(null, sequence));
+            return;
+        }
+
+        if (mirror == null || mirror.hologram == null) {
+            Hologram.Builder builder = Hologram.builder(this.manager.getPlugin())
+                    .identifier(identifier)
+                    .manager(this.manager)
+                    .spawnLocation(location)
+                    .distance(distance)
+                    .lines(lines.isEmpty() ? Collections.singletonList("") : lines);
+            if (translateColors) builder.translateColors();
+
+            Hologram hologram = builder.build();
+            this.mirrors.put(identifier, new Mirror(hologram, sequence));
+            return;
+        }
+
+        Hologram hologram = mirror.hologram;
+        mirror.sequence = sequence;
+        hologram.setTranslateColors(translateColors);
+        if (hologram.getDistance() != distance) hologram.updateDistance(distance);
+        if (!location.equals(hologram.getSpawnLocation())) hologram.teleport(location);
+        hologram.replaceLines(lines);
+    }
+
+    private void applyDelta(String identifier, DataInputStream input) throws IOException {
+        int sequence = SyncCodec.readVarInt(input);
+        Mirror mirror = this.mirrors.get(identifier);
+        if (mirror != null && mirror.hologram == null) {
+            mirror.sequence = sequence;
+            return;
+        }
+        if (mirror == null || mirror.sequence + 1 != sequence) {
+            requestDefinition(identifier);
+            return;
+        }
+
+        int size = SyncCodec.readVarInt(input);
+        if (size < 0) throw new IOException("Invalid line count " + size + " for " + identifier + ".");
+
+        List<String> lines = new ArrayList<>(mirror.hologram.getLines());
+        while (lines.size() > size) {
+            lines.remove(lines.size() - 1);
+        }
+        while (lines.size() < size) {
+            lines.add("");
+        }
+        for (int i = SyncCodec.readVarInt(input); i > 0; i--) {
+            int index = SyncCodec.readVarInt(input);
+            if (index < 0 || index >= size) {
+                throw new IOException("Line " + index + " of " + identifier + " is out of bounds for " + size + " lines.");
+            }
+            lines.set(index, SyncCodec.readString(input));
+        }
+
+        mirror.sequence = sequence;
+        mirror.hologram.replaceLines(lines);
+    }
+
+    private void requestDefinition(String identifier) {
+        publish(output -> {
+            output.writeByte(SyncCodec.RESYNC);
+            output.writeLong(this.node);
+            SyncCodec.writeString(output, identifier);
+        });
+    }
+
+    private void publishDefinition(String identifier, Shared entry) {
+        Hologram hologram = entry.hologram;
+        Location location = hologram.getSpawnLocation();
+        entry.lines = new ArrayList<>(hologram.getLines());
+
+        publish(output -> {
+            output.writeByte(SyncCodec.DEFINE);
+            output.writeLong(this.node);
+            SyncCodec.writeString(output, identifier);
+            SyncCodec.writeVarInt(output, entry.sequence);
+            SyncCodec.writeString(output, location.getWorld().getName());
+            output.writeDouble(location.getX());
+            output.writeDouble(location.getY());
+            output.writeDouble(location.getZ());
+            output.writeDouble(hologram.getDistance());
+            output.writeBoolean(hologram.isTranslateColors());
+            SyncCodec.writeVarInt(output, entry.lines.size());
+            for (String line : entry.lines) {
+                SyncCodec.writeString(output, line);
+            }
+        });
+    }
+
+    private void publish(MessageWriter writer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            writer.write(output);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return;
+        }
+        this.bus.publish(bytes.toByteArray());
+    }
+
+    private interface MessageWriter {
+        void write(DataOutputStream output) throws IOException;
+    }
+
+    private static class Shared {
+        private final Hologram hologram;
+        private List<String> lines = Collections.emptyList();
+        private int sequence = 0;
+
+        private Shared(Hologram hologram) {
+            this.hologram = hologram;
+        }
+    }
+
+    /**
+     * A hologram received from another server. The hologram is null if its world is not loaded on this server.
+     */
+    private static class Mirror {
+        private final Hologram hologram;
+        private int sequence;
+
+        private Mirror(Hologram hologram, int sequence) {
+            this.hologram = hologram;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.rysefoxx.sync;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * A message bus that delivers every message immediately within the same JVM. Useful for tests and
+ * for several {@link HologramSync} nodes on a single server.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/19/2026
+ */
+public class LoopbackMessageBus implements MessageBus {
+
+    private final List<Consumer<byte[]>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(byte[] message) {
+        for (Consumer<byte[]> listener : this.listeners) {
+            listener.accept(message.clone());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<byte[]> listener) {
+        this.listeners.add(listener);
+    }
+
+    @Override
+    public void unsubscribe(Consumer<byte[]> listener) {
+        this.listeners.remove(listener);
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.rysefoxx.sync;
+
+import java.util.function.Consumer;
+
+/**
+ * Transports sync messages between the servers of a network, e.g. over Redis or plugin messaging.
+ * Listeners may be called on any thread.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/19/2026
+ */
+public interface MessageBus {
+
+    /**
+     * Sends the message to all subscribers, including the ones of the sending server.
+     *
+     * @param message The encoded message.
+     */
+    void publish(byte[] message);
+
+    /**
+     * @param listener Receives every published message.
+     */
+    void subscribe(Consumer<byte[]> listener);
+
+    /**
+     * @param listener The listener that no longer receives messages.
+     */
+    void unsubscribe(Consumer<byte[]> listener);
+
+}
@@ -0,0 +1,8 @@
+package io.github.rysefoxx.util;
+
+public enum ClickAction {
+
+    LEFT,
+    RIGHT,
+
+}
@@ -0,0 +1,157 @@
+package io.github.rysefoxx.util;
+
+import java.util.Arrays;
+
+/**
+ * A hash map with primitive int keys that does not box its keys.
+ *
+ * @param <V> The type of the values. null values are not supported.
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/19/2026
+ */
+public class IntObjectMap<V> {
+
+    private int[] keys;
+    private Object[] values;
+    private int size;
+
+    public IntObjectMap() {
+        this(16);
+    }
+
+    public IntObjectMap(int capacity) {
+        int length = Integer.highestOneBit(Math.max(capacity, 4) * 2 - 1);
+        this.keys = new int[length];
+        this.values = new Object[length];
+    }
+
+    /**
+     * @param key The key.
+     * @return The value or null if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        int mask = this.keys.length - 1;
+        for (int slot = mix(key) & mask; this.values[slot] != null; slot = (slot + 1) & mask) {
+            if (this.keys[slot] == key) return (V) this.values[slot];
+        }
+        return null;
+    }
+
+    /**
+     * @param key The key.
+     * @return true if a value exists for the key.
+     */
+    public boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    /**
+     * @param key   The key.
+     * @param value The value.
+     * @return The previous value or null.
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        if (value == null) throw new NullPointerException("null values are not supported.");
+        if ((this.size + 1) * 4 > this.keys.length * 3) resize(this.keys.length * 2);
+
+        int mask = this.keys.length - 1;
+        int slot = mix(key) & mask;
+        for (; this.values[slot] != null; slot = (slot + 1) & mask) {
+            if (this.keys[slot] != key) continue;
+
+            V previous = (V) this.values[slot];
+            this.values[slot] = value;
+            return previous;
+        }
+
+        this.keys[slot] = key;
+        this.values[slot] = value;
+        this.size++;
+        return null;
+    }
+
+    /**
+     * @param key The key.
+     * @return The removed value or null.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        int mask = this.keys.length - 1;
+        int slot = mix(key) & mask;
+        while (this.values[slot] != null && this.keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (this.values[slot] == null) return null;
+
+        V previous = (V) this.values[slot];
+        this.size--;
+
+        int gap = slot;
+        for (int next = (gap + 1) & mask; this.values[next] != null; next = (next + 1) & mask) {
+            int home = mix(this.keys[next]) & mask;
+            if (((next - home) & mask) < ((next - gap) & mask)) continue;
+
+            this.keys[gap] = this.keys[next];
+            this.values[gap] = this.values[next];
+            gap = next;
+        }
+        this.values[gap] = null;
+        return previous;
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clear() {
+        Arrays.fill(this.values, null);
+        this.size = 0;
+    }
+
+    /**
+     * @return The number of entries.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @param action Receives every entry.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<V> action) {
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.values[i] == null) continue;
+            action.accept(this.keys[i], (V) this.values[i]);
+        }
+    }
+
+    private void resize(int length) {
+        int[] oldKeys = this.keys;
+        Object[] oldValues = this.values;
+
+        this.keys = new int[length];
+        this.values = new Object[length];
+        int mask = length - 1;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] == null) continue;
+
+            int slot = mix(oldKeys[i]) & mask;
+            while (this.values[slot] != null) slot = (slot + 1) & mask;
+
+            this.keys[slot] = oldKeys[i];
+            this.values[slot] = oldValues[i];
+        }
+    }
+
+    private static int mix(int key) {
+        int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    public interface EntryConsumer<V> {
+        void accept(int key, V value);
+    }
+}
@@ -0,0 +1,8 @@
+package io.github.rysefoxx.util;
+
+public enum RenderMode {
+
+    PER_LINE,
+    SINGLE_ENTITY,
+
+}
@@ -0,0 +1,63 @@
+package io.github.rysefoxx.util;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Measures the time between two server ticks and decides whether updates have to be throttled.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/19/2026
+ */
+@Getter
+public class TickMonitor {
+
+    private static final double SMOOTHING = 0.1;
+
+    private final BukkitTask task;
+
+    @Setter
+    private double msptThreshold = 55.0;
+    private double mspt = 50.0;
+    private long lastTick = 0;
+
+    public TickMonitor(JavaPlugin plugin) {
+        this.task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1, 1);
+    }
+
+    /**
+     * @return true if the server needs more time per tick than the configured threshold.
+     */
+    public boolean isOverloaded() {
+        return this.mspt > this.msptThreshold;
+    }
+
+    /**
+     * Returns after how many scheduler runs a hologram with the given priority should be updated.
+     *
+     * @param priority The priority of the hologram.
+     * @return 1 if the server is not overloaded, otherwise the throttle of the priority.
+     */
+    public int throttle(UpdatePriority priority) {
+        return isOverloaded() ? priority.getThrottle() : 1;
+    }
+
+    /**
+     * Stops measuring.
+     */
+    public void cancel() {
+        this.task.cancel();
+    }
+
+    private void tick() {
+        long now = System.nanoTime();
+        if (this.lastTick != 0) {
+            double elapsed = (now - this.lastTick) / 1_000_000.0D;
+            this.mspt += (elapsed - this.mspt) * SMOOTHING;
+        }
+        this.lastTick = now;
+    }
+}
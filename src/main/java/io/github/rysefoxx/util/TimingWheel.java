@@ -0,0 +1,175 @@
+package io.github.rysefoxx.util;
+
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timing wheel. Scheduling, cancelling and expiring an entry costs O(1).
+ * Each level has 64 slots, an entry can be scheduled up to 64^4 ticks into the future.
+ *
+ * @param <T> The type of the scheduled values.
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/19/2026
+ */
+public class TimingWheel<T> {
+
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_DELAY = (1L << (BITS * LEVELS)) - 1;
+
+    private final Timeout<T>[][] buckets;
+    private long tick = 0;
+    private int size = 0;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel() {
+        this.buckets = (Timeout<T>[][]) new Timeout[LEVELS][SLOTS];
+    }
+
+    /**
+     * Schedules a value.
+     *
+     * @param value The value that expires.
+     * @param delay The number of ticks until the value expires, at least 1.
+     * @return The handle to cancel the value.
+     */
+    public Timeout<T> schedule(T value, long delay) {
+        Timeout<T> timeout = new Timeout<>(value);
+        schedule(timeout, delay);
+        return timeout;
+    }
+
+    /**
+     * Schedules a handle again. If the handle is still scheduled, it is moved to the new deadline.
+     *
+     * @param timeout The handle.
+     * @param delay   The number of ticks until the value expires, at least 1.
+     */
+    public void schedule(Timeout<T> timeout, long delay) {
+        cancel(timeout);
+
+        timeout.deadline = this.tick + Math.min(Math.max(delay, 1), MAX_DELAY);
+        place(timeout);
+        this.size++;
+    }
+
+    /**
+     * Removes the handle from the wheel.
+     *
+     * @param timeout The handle.
+     * @return false if the handle was not scheduled.
+     */
+    public boolean cancel(Timeout<T> timeout) {
+        if (!timeout.isScheduled()) return false;
+
+        unlink(timeout);
+        this.size--;
+        return true;
+    }
+
+    /**
+     * Advances the wheel by one tick.
+     *
+     * @param expired Receives every value whose deadline has been reached.
+     */
+    public void advance(Consumer<T> expired) {
+        this.tick++;
+
+        for (int level = LEVELS - 1; level > 0; level--) {
+            if ((this.tick & ((1L << (BITS * level)) - 1)) != 0) continue;
+
+            Timeout<T> timeout = detach(level, (int) ((this.tick >>> (BITS * level)) & MASK));
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                timeout.next = null;
+                place(timeout);
+                timeout = next;
+            }
+        }
+
+        Timeout<T> timeout = detach(0, (int) (this.tick & MASK));
+        while (timeout != null) {
+            Timeout<T> next = timeout.next;
+            timeout.next = null;
+            this.size--;
+            expired.accept(timeout.value);
+            timeout = next;
+        }
+    }
+
+    /**
+     * @return The number of scheduled values.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    private void place(Timeout<T> timeout) {
+        long delta = Math.max(timeout.deadline - this.tick, 0);
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (BITS * (level + 1)))) {
+            level++;
+        }
+
+        int slot = (int) ((timeout.deadline >>> (BITS * level)) & MASK);
+        Timeout<T> head = this.buckets[level][slot];
+
+        timeout.level = level;
+        timeout.slot = slot;
+        timeout.prev = null;
+        timeout.next = head;
+        if (head != null) head.prev = timeout;
+        this.buckets[level][slot] = timeout;
+    }
+
+    private void unlink(Timeout<T> timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            this.buckets[timeout.level][timeout.slot] = timeout.next;
+        }
+        if (timeout.next != null) timeout.next.prev = timeout.prev;
+
+        timeout.level = -1;
+        timeout.prev = null;
+        timeout.next = null;
+    }
+
+    private Timeout<T> detach(int level, int slot) {
+        Timeout<T> head = this.buckets[level][slot];
+        this.buckets[level][slot] = null;
+
+        for (Timeout<T> timeout = head; timeout != null; timeout = timeout.next) {
+            timeout.level = -1;
+            timeout.prev = null;
+        }
+        return head;
+    }
+
+    /**
+     * A value scheduled in the wheel.
+     *
+     * @param <T> The type of the value.
+     */
+    public static final class Timeout<T> {
+        private final T value;
+        private long deadline;
+        private int level = -1;
+        private int slot;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        public Timeout(T value) {
+            this.value = value;
+        }
+
+        public T getValue() {
+            return this.value;
+        }
+
+        public boolean isScheduled() {
+            return this.level >= 0;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.rysefoxx.util;
+
+import lombok.Getter;
+
+/**
+ * Decides how much the update rate of a hologram is reduced when the server is under load.
+ */
+@Getter
+public enum UpdatePriority {
+
+    LOW(4),
+    NORMAL(2),
+    HIGH(1),
+    ;
+
+    private final int throttle;
+
+    UpdatePriority(int throttle) {
+        this.throttle = throttle;
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.rysefoxx.util;
+
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Resolves the view distance of a player. Newer servers know the view distance of the client and of each world,
+ * older ones only the view distance of the server. The methods are looked up once.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/19/2026
+ */
+public final class ViewDistance {
+
+    private static final Method CLIENT_VIEW_DISTANCE = lookup(Player.class, "getClientViewDistance");
+    private static final Method WORLD_VIEW_DISTANCE = lookup(World.class, "getViewDistance");
+
+    private ViewDistance() {
+    }
+
+    /**
+     * @param player The player.
+     * @return The view distance of the player in chunks. The client view distance is capped by the view distance
+     * of the world, which falls back to the view distance of the server.
+     */
+    public static int of(Player player) {
+        int world = invoke(WORLD_VIEW_DISTANCE, player.getWorld(), Bukkit.getViewDistance());
+        int client = invoke(CLIENT_VIEW_DISTANCE, player, world);
+        return client > 0 ? Math.min(client, world) : world;
+    }
+
+    private static int invoke(Method method, Object target, int fallback) {
+        if (method == null) return fallback;
+
+        try {
+            return (int) method.invoke(target);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            return fallback;
+        }
+    }
+
+    private static Method lookup(Class<?> type, String name) {
+        try {
+            return type.getMethod(name);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
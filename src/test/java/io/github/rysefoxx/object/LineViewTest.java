@@ -0,0 +1,92 @@
+package io.github.rysefoxx.object;
+
+import com.comphenix.protocol.events.PacketContainer;
+import io.github.rysefoxx.manager.ClientState;
+import io.github.rysefoxx.manager.HologramManager;
+import io.github.rysefoxx.manager.LineTextPool;
+import io.github.rysefoxx.packet.PacketEncoder;
+import org.bukkit.entity.Player;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class LineViewTest {
+
+    private static final int ENTITY_ID = 100;
+
+    private HologramManager manager;
+    private ClientState clientState;
+    private Hologram hologram;
+
+    @Before
+    public void setUp() {
+        PacketEncoder encoder = mock(PacketEncoder.class);
+        when(encoder.encode(anyString())).thenAnswer(invocation -> new Object());
+        when(encoder.metadata(anyInt(), any())).thenAnswer(invocation -> mock(PacketContainer.class));
+
+        this.clientState = new ClientState();
+        this.manager = mock(HologramManager.class);
+        when(this.manager.getEncoder()).thenReturn(encoder);
+        when(this.manager.getClientState()).thenReturn(this.clientState);
+        when(this.manager.getLinePool()).thenReturn(new LineTextPool(encoder, 16));
+
+        this.hologram = new Hologram();
+        this.hologram.setManager(this.manager);
+        this.hologram.setLines(new ArrayList<>(Collections.singletonList("Online: 41")));
+        this.hologram.getLineId().put(0, ENTITY_ID);
+    }
+
+    @Test
+    public void sameValueIsSentToEveryPlayer() {
+        Player first = viewer();
+        Player second = viewer();
+
+        LineView firstView = new LineView(this.hologram, first);
+        firstView.set(0, "Online: 42");
+        firstView.flush();
+
+        LineView secondView = new LineView(this.hologram, second);
+        secondView.set(0, "Online: 42");
+        secondView.flush();
+
+        verify(this.manager).sendPacket(eq(first), any());
+        verify(this.manager).sendPacket(eq(second), any());
+        assertEquals("Online: 42", this.clientState.getText(first, ENTITY_ID));
+        assertEquals("Online: 42", this.clientState.getText(second, ENTITY_ID));
+    }
+
+    @Test
+    public void unchangedValueSendsNothing() {
+        Player player = viewer();
+
+        LineView view = new LineView(this.hologram, player);
+        view.set(0, "Online: 41");
+        view.flush();
+
+        verify(this.manager, never()).sendPacket(any(), any());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void pagedLinesCannotBeSet() {
+        this.hologram.getPages().add(HologramPage.of("Page 1"));
+
+        new LineView(this.hologram, viewer()).set(0, "Online: 42");
+    }
+
+    private Player viewer() {
+        Player player = mock(Player.class);
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+        this.hologram.getDetailLevel().put(player.getUniqueId(), 0);
+        this.clientState.spawned(player, ENTITY_ID, "Online: 41");
+        return player;
+    }
+}
@@ -0,0 +1,131 @@
+package io.github.rysefoxx.sync;
+
+import io.github.rysefoxx.manager.HologramManager;
+import io.github.rysefoxx.manager.LineTextPool;
+import io.github.rysefoxx.object.Hologram;
+import io.github.rysefoxx.packet.PacketEncoder;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class HologramSyncTest {
+
+    private Server server;
+    private World world;
+    private HologramManager manager;
+    private LoopbackMessageBus bus;
+    private HologramSync sender;
+    private HologramSync receiver;
+    private final List<Byte> types = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        if (Bukkit.getServer() == null) Bukkit.setServer(mock(Server.class));
+        this.server = Bukkit.getServer();
+        reset(this.server);
+
+        this.world = mock(World.class);
+        when(this.world.getName()).thenReturn("world");
+        when(this.server.isPrimaryThread()).thenReturn(true);
+        when(this.server.getWorld("world")).thenReturn(this.world);
+        doReturn(Collections.emptyList()).when(this.server).getOnlinePlayers();
+
+        PacketEncoder encoder = mock(PacketEncoder.class);
+        when(encoder.encode(anyString())).thenAnswer(invocation -> new Object());
+
+        this.manager = mock(HologramManager.class);
+        when(this.manager.getPlugin()).thenReturn(mock(JavaPlugin.class));
+        when(this.manager.getLinePool()).thenReturn(new LineTextPool(encoder, 16));
+
+        this.bus = new LoopbackMessageBus();
+        this.bus.subscribe(message -> this.types.add(message[0]));
+        this.sender = new HologramSync(this.manager, this.bus);
+        this.receiver = new HologramSync(this.manager, this.bus);
+        this.sender.start();
+        this.receiver.start();
+    }
+
+    @Test
+    public void deltaUpdatesMirror() {
+        Hologram hologram = shared("A", "B");
+        Hologram mirror = mirror();
+        assertEquals(Arrays.asList("A", "B"), mirror.getLines());
+
+        hologram.setLines(new ArrayList<>(Arrays.asList("A", "C", "D")));
+        this.sender.push(hologram);
+
+        assertEquals(Arrays.asList("A", "C", "D"), mirror.getLines());
+        assertFalse(this.types.contains(SyncCodec.RESYNC));
+    }
+
+    @Test
+    public void invalidIndexRequestsDefinition() throws IOException {
+        shared("A");
+        Hologram mirror = mirror();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeByte(SyncCodec.DELTA);
+            output.writeLong(0);
+            SyncCodec.writeString(output, "stats");
+            SyncCodec.writeVarInt(output, 1);
+            SyncCodec.writeVarInt(output, 1);
+            SyncCodec.writeVarInt(output, 1);
+            SyncCodec.writeVarInt(output, 3);
+            SyncCodec.writeString(output, "X");
+        }
+        this.bus.publish(bytes.toByteArray());
+
+        assertTrue(this.types.contains(SyncCodec.RESYNC));
+        assertEquals(Collections.singletonList("A"), mirror.getLines());
+    }
+
+    @Test
+    public void missingWorldDoesNotRequestDefinition() {
+        when(this.server.getWorld("world")).thenReturn(null);
+
+        Hologram hologram = shared("A");
+        hologram.setLines(new ArrayList<>(Collections.singletonList("B")));
+        this.sender.push(hologram);
+        hologram.setLines(new ArrayList<>(Collections.singletonList("C")));
+        this.sender.push(hologram);
+
+        assertFalse(this.types.contains(SyncCodec.RESYNC));
+        verify(this.manager, never()).create(any(Hologram.class));
+    }
+
+    private Hologram shared(String... lines) {
+        Hologram hologram = Hologram.builder(this.manager.getPlugin())
+                .identifier("stats")
+                .manager(this.manager)
+                .spawnLocation(new Location(this.world, 10, 64, 10))
+                .lines(Arrays.asList(lines))
+                .prepare();
+        this.sender.share(hologram);
+        return hologram;
+    }
+
+    private Hologram mirror() {
+        ArgumentCaptor<Hologram> captor = ArgumentCaptor.forClass(Hologram.class);
+        verify(this.manager).create(captor.capture());
+        return captor.getValue();
+    }
+}